@@ -2,15 +2,24 @@ USE chess;
 
 CREATE TABLE room
 (
-    room_id      INT          NOT NULL UNIQUE AUTO_INCREMENT,
+    room_id      INT          NOT NULL,
     name         VARCHAR(10)  NOT NULL,
     game_status  VARCHAR(10)  NOT NULL,
     current_turn VARCHAR(10)  NOT NULL,
     password     VARCHAR(255) NOT NULL,
     is_delete    BOOLEAN      NOT NULL DEFAULT FALSE,
+    version      INT          NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    active_name  VARCHAR(10) AS (CASE WHEN is_delete THEN NULL ELSE name END),
     PRIMARY KEY (room_id)
 );
 
+CREATE UNIQUE INDEX room_active_name ON room (active_name);
+
+CREATE INDEX room_status_updated_at ON room (game_status, updated_at);
+
+CREATE INDEX room_is_delete_room_id ON room (is_delete, room_id);
+
 CREATE TABLE chess_piece
 (
     chess_piece_id INT         NOT NULL UNIQUE AUTO_INCREMENT,
@@ -21,3 +30,31 @@ CREATE TABLE chess_piece
     PRIMARY KEY (chess_piece_id),
     FOREIGN KEY (room_id) REFERENCES room (room_id) ON DELETE CASCADE
 );
+
+CREATE TABLE room_archive
+(
+    room_id      INT         NOT NULL,
+    name         VARCHAR(10) NOT NULL,
+    game_status  VARCHAR(10) NOT NULL,
+    current_turn VARCHAR(10) NOT NULL,
+    board        BLOB        NOT NULL,
+    archived_at  TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (room_id)
+);
+
+CREATE TABLE move_history
+(
+    room_id     INT  NOT NULL,
+    ply_count   INT  NOT NULL,
+    moves       BLOB NOT NULL,
+    PRIMARY KEY (room_id)
+);
+
+CREATE TABLE id_sequence
+(
+    name       VARCHAR(30) NOT NULL,
+    next_value BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO id_sequence (name, next_value) SELECT 'room', COALESCE(MAX(room_id), 0) + 1 FROM room;
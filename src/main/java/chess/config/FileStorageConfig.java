@@ -0,0 +1,41 @@
+package chess.config;
+
+import chess.repository.ChessGameRepository;
+import chess.repository.ChessGameRecordRepository;
+import chess.repository.FileRoomLog;
+import chess.repository.RoomRecordRepository;
+import chess.repository.RoomRepository;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@Profile("file")
+public class FileStorageConfig {
+
+    @Bean(destroyMethod = "close")
+    public FileRoomLog fileRoomLog(@Value("${chess.file.path:data/chess.log}") final Path path,
+                                   @Value("${chess.file.fsync:true}") final boolean fsync,
+                                   @Value("${chess.file.compaction-min-size:1MB}") final DataSize compactionMinSize) {
+        return FileRoomLog.open(path, fsync, compactionMinSize.toBytes());
+    }
+
+    @Bean
+    public RoomRepository roomRepository(final FileRoomLog fileRoomLog) {
+        return new RoomRecordRepository(fileRoomLog);
+    }
+
+    @Bean
+    public ChessGameRepository chessGameRepository(final FileRoomLog fileRoomLog) {
+        return new ChessGameRecordRepository(fileRoomLog);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(final FileRoomLog fileRoomLog) {
+        return new RoomRecordTransactionManager(fileRoomLog);
+    }
+}
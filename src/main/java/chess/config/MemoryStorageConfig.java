@@ -0,0 +1,41 @@
+package chess.config;
+
+import chess.repository.ChessGameRecordRepository;
+import chess.repository.ChessGameRepository;
+import chess.repository.MemoryRoomStore;
+import chess.repository.RoomRecordRepository;
+import chess.repository.RoomRepository;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@Profile("memory")
+public class MemoryStorageConfig {
+
+    @Bean(destroyMethod = "close")
+    public MemoryRoomStore memoryRoomStore(@Value("${chess.memory.snapshot-path:}") final String snapshotPath) {
+        if (snapshotPath.isBlank()) {
+            return MemoryRoomStore.open(null);
+        }
+        return MemoryRoomStore.open(Path.of(snapshotPath));
+    }
+
+    @Bean
+    public RoomRepository roomRepository(final MemoryRoomStore memoryRoomStore) {
+        return new RoomRecordRepository(memoryRoomStore);
+    }
+
+    @Bean
+    public ChessGameRepository chessGameRepository(final MemoryRoomStore memoryRoomStore) {
+        return new ChessGameRecordRepository(memoryRoomStore);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(final MemoryRoomStore memoryRoomStore) {
+        return new RoomRecordTransactionManager(memoryRoomStore);
+    }
+}
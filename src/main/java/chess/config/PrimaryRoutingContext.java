@@ -0,0 +1,21 @@
+package chess.config;
+
+public class PrimaryRoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> false);
+
+    private PrimaryRoutingContext() {
+    }
+
+    public static void pin() {
+        PINNED.set(true);
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get();
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+}
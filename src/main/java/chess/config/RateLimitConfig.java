@@ -0,0 +1,79 @@
+package chess.config;
+
+import chess.exception.NotFoundException;
+import chess.service.RoomService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.dao.EmptyResultDataAccessException;
+
+@Configuration
+@ConditionalOnProperty(name = "chess.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    private static final Set<String> MOVE_METHODS = Set.of("PATCH", "POST");
+    private static final Set<String> ROOM_METHODS = Set.of("POST", "DELETE");
+    private static final String MOVE_PATH = "/rooms/\\d+/(pieces|moves:batch)";
+    private static final String ROOMS_PATH = "/rooms/?";
+
+    @Bean
+    public RateLimiter rateLimiter(
+            @Value("${chess.rate-limit.max-buckets:100000}") final int maxBuckets,
+            @Value("${chess.rate-limit.move.client-capacity:20}") final int moveClientCapacity,
+            @Value("${chess.rate-limit.move.room-capacity:10}") final int moveRoomCapacity,
+            @Value("${chess.rate-limit.move.period:PT1S}") final Duration movePeriod,
+            @Value("${chess.rate-limit.room.client-capacity:10}") final int roomClientCapacity,
+            @Value("${chess.rate-limit.room.period:PT1M}") final Duration roomPeriod,
+            final RoomService roomService) {
+        return new RateLimiter(List.of(
+                RateLimitRule.perClient("move-client", MOVE_METHODS, MOVE_PATH, moveClientCapacity, movePeriod),
+                RateLimitRule.perRoom("move-room", MOVE_METHODS, MOVE_PATH, moveRoomCapacity, movePeriod),
+                RateLimitRule.perClient("room-write", ROOM_METHODS, ROOMS_PATH, roomClientCapacity, roomPeriod)
+        ), maxBuckets, roomId -> exists(roomService, roomId));
+    }
+
+    private boolean exists(final RoomService roomService, final int roomId) {
+        try {
+            roomService.findVersion(roomId);
+            return true;
+        } catch (NotFoundException | EmptyResultDataAccessException e) {
+            return false;
+        }
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(final RateLimiter rateLimiter,
+                                                                   final ObjectMapper objectMapper)
+            throws IOException {
+        final FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(rateLimiter, objectMapper));
+        registration.addUrlPatterns("/rooms", "/rooms/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder rateLimitMetrics(final RateLimiter rateLimiter) {
+        return registry -> {
+            for (final String ruleName : rateLimiter.getRuleNames()) {
+                FunctionCounter.builder("chess.rate-limit.rejections", rateLimiter,
+                                it -> it.getRejectionCount(ruleName))
+                        .tag("rule", ruleName)
+                        .register(registry);
+            }
+            Gauge.builder("chess.rate-limit.buckets", rateLimiter, RateLimiter::getBucketCount)
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package chess.config;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class RateLimitRule {
+
+    private static final Pattern ROOM_ID_PATTERN = Pattern.compile("^/rooms/(\\d+)(/.*)?$");
+
+    private final String name;
+    private final Set<String> methods;
+    private final Pattern pathPattern;
+    private final Scope scope;
+    private final int capacity;
+    private final Duration period;
+
+    private RateLimitRule(final String name, final Set<String> methods, final String pathRegex, final Scope scope,
+                          final int capacity, final Duration period) {
+        this.name = name;
+        this.methods = methods;
+        this.pathPattern = Pattern.compile(pathRegex);
+        this.scope = scope;
+        this.capacity = capacity;
+        this.period = period;
+    }
+
+    public static RateLimitRule perClient(final String name, final Set<String> methods, final String pathRegex,
+                                          final int capacity, final Duration period) {
+        return new RateLimitRule(name, methods, pathRegex, Scope.CLIENT, capacity, period);
+    }
+
+    public static RateLimitRule perRoom(final String name, final Set<String> methods, final String pathRegex,
+                                        final int capacity, final Duration period) {
+        return new RateLimitRule(name, methods, pathRegex, Scope.ROOM, capacity, period);
+    }
+
+    public boolean matches(final String method, final String path) {
+        return methods.contains(method) && pathPattern.matcher(path).matches();
+    }
+
+    public Optional<String> toBucketKey(final String clientAddress, final String path) {
+        if (scope == Scope.CLIENT) {
+            return Optional.of(name + ":" + clientAddress);
+        }
+        return toRoomId(path).map(roomId -> name + ":" + roomId);
+    }
+
+    public Optional<Integer> toRoomId(final String path) {
+        final Matcher matcher = ROOM_ID_PATTERN.matcher(path);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Integer.parseInt(matcher.group(1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public boolean isPerRoom() {
+        return scope == Scope.ROOM;
+    }
+
+    public TokenBucket createBucket(final long nowNanos) {
+        return new TokenBucket(capacity, period, nowNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private enum Scope {
+        CLIENT,
+        ROOM
+    }
+}
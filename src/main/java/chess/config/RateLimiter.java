@@ -0,0 +1,119 @@
+package chess.config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class RateLimiter {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final List<RateLimitRule> rules;
+    private final int maxBuckets;
+    private final IntPredicate roomExists;
+    private final Map<String, TokenBucket> bucketByKey = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> rejectionCountByRule;
+
+    public RateLimiter(final List<RateLimitRule> rules, final int maxBuckets) {
+        this(rules, maxBuckets, roomId -> true);
+    }
+
+    public RateLimiter(final List<RateLimitRule> rules, final int maxBuckets, final IntPredicate roomExists) {
+        if (maxBuckets < 1) {
+            throw new IllegalArgumentException("버킷 개수는 1 이상이어야 합니다.");
+        }
+        this.rules = rules;
+        this.maxBuckets = maxBuckets;
+        this.roomExists = roomExists;
+        this.rejectionCountByRule = rules.stream()
+                .collect(Collectors.toMap(RateLimitRule::getName, it -> new AtomicLong()));
+    }
+
+    public long tryAcquire(final HttpServletRequest request, final long nowNanos) {
+        return tryAcquire(request.getMethod(), request.getRequestURI(), request.getRemoteAddr(), 1, nowNanos);
+    }
+
+    public long tryAcquire(final String method, final String path, final String clientAddress, final int permits,
+                           final long nowNanos) {
+        final List<TokenBucket> consumed = new ArrayList<>();
+        for (final RateLimitRule rule : rules) {
+            if (!rule.matches(method, path)) {
+                continue;
+            }
+            final Optional<TokenBucket> bucket = findBucket(rule, clientAddress, path, nowNanos);
+            if (bucket.isEmpty()) {
+                continue;
+            }
+            final long waitNanos = bucket.get().tryConsume(nowNanos, permits);
+            if (waitNanos > 0) {
+                consumed.forEach(it -> it.refund(permits));
+                rejectionCountByRule.get(rule.getName()).incrementAndGet();
+                return waitNanos;
+            }
+            consumed.add(bucket.get());
+        }
+        return 0;
+    }
+
+    private Optional<TokenBucket> findBucket(final RateLimitRule rule, final String clientAddress, final String path,
+                                             final long nowNanos) {
+        final Optional<String> bucketKey = rule.toBucketKey(clientAddress, path);
+        if (bucketKey.isEmpty()) {
+            return Optional.empty();
+        }
+        final TokenBucket bucket = bucketByKey.get(bucketKey.get());
+        if (bucket != null) {
+            return Optional.of(bucket);
+        }
+        if (rule.isPerRoom() && !rule.toRoomId(path).map(roomExists::test).orElse(false)) {
+            return Optional.empty();
+        }
+        if (bucketByKey.size() >= maxBuckets) {
+            evictExpired(nowNanos);
+        }
+        if (bucketByKey.size() >= maxBuckets) {
+            evictOldest();
+        }
+        return Optional.of(bucketByKey.computeIfAbsent(bucketKey.get(), ignored -> rule.createBucket(nowNanos)));
+    }
+
+    private void evictOldest() {
+        bucketByKey.entrySet().stream()
+                .limit(EVICTION_SAMPLE_SIZE)
+                .min(Comparator.comparingLong(entry -> entry.getValue().getFullAtNanos()))
+                .ifPresent(entry -> bucketByKey.remove(entry.getKey(), entry.getValue()));
+    }
+
+    @Scheduled(fixedDelayString = "${chess.rate-limit.sweep-interval:PT1M}")
+    public void evictExpired() {
+        evictExpired(System.nanoTime());
+    }
+
+    public int evictExpired(final long nowNanos) {
+        final int before = bucketByKey.size();
+        bucketByKey.values().removeIf(bucket -> bucket.isFull(nowNanos));
+        return before - bucketByKey.size();
+    }
+
+    public long getRejectionCount(final String ruleName) {
+        return rejectionCountByRule.getOrDefault(ruleName, new AtomicLong()).get();
+    }
+
+    public List<String> getRuleNames() {
+        return rules.stream()
+                .map(RateLimitRule::getName)
+                .collect(Collectors.toList());
+    }
+
+    public int getBucketCount() {
+        return bucketByKey.size();
+    }
+}
@@ -0,0 +1,73 @@
+package chess.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    static final String LAST_WRITE_COOKIE = "CHESS_LAST_WRITE";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration maxLag;
+
+    public ReadYourWritesInterceptor(final Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                             final Object handler) {
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            response.addCookie(createLastWriteCookie());
+            return true;
+        }
+        if (isRecentlyWritten(request)) {
+            PrimaryRoutingContext.pin();
+        }
+        return true;
+    }
+
+    private Cookie createLastWriteCookie() {
+        final Cookie cookie = new Cookie(LAST_WRITE_COOKIE, String.valueOf(System.currentTimeMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, maxLag.toSeconds() + 1));
+        return cookie;
+    }
+
+    private boolean isRecentlyWritten(final HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return false;
+        }
+        return Arrays.stream(request.getCookies())
+                .filter(cookie -> LAST_WRITE_COOKIE.equals(cookie.getName()))
+                .anyMatch(this::isWithinMaxLag);
+    }
+
+    private boolean isWithinMaxLag(final Cookie cookie) {
+        try {
+            final long writtenAt = Long.parseLong(cookie.getValue());
+            return System.currentTimeMillis() - writtenAt < maxLag.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+                                final Object handler, final Exception exception) {
+        PrimaryRoutingContext.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request, final HttpServletResponse response,
+                                               final Object handler) {
+        PrimaryRoutingContext.clear();
+    }
+}
@@ -0,0 +1,57 @@
+package chess.config;
+
+import chess.repository.CachingChessGameRepository;
+import chess.repository.CachingRoomRepository;
+import chess.repository.ChessGameRepository;
+import chess.repository.ChessGameRepositoryImpl;
+import chess.repository.RoomCache;
+import chess.repository.RoomRepository;
+import chess.repository.RoomRepositoryImpl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("!embedded")
+@ConditionalOnProperty(name = "chess.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryCacheConfig {
+
+    @Bean
+    public RoomCache roomCache(@Value("${chess.cache.max-size:1000}") final int maxSize) {
+        return new RoomCache(maxSize);
+    }
+
+    @Bean
+    @Primary
+    public RoomRepository roomRepository(final RoomRepositoryImpl roomRepositoryImpl, final RoomCache roomCache) {
+        return new CachingRoomRepository(roomRepositoryImpl, roomCache);
+    }
+
+    @Bean
+    @Primary
+    public ChessGameRepository chessGameRepository(final ChessGameRepositoryImpl chessGameRepositoryImpl,
+                                                   final RoomRepository roomRepository,
+                                                   final RoomCache roomCache) {
+        return new CachingChessGameRepository(chessGameRepositoryImpl, roomRepository, roomCache);
+    }
+
+    @Bean
+    public MeterBinder roomCacheMetrics(final RoomCache roomCache) {
+        return registry -> {
+            FunctionCounter.builder("chess.cache.hits", roomCache, RoomCache::getHitCount)
+                    .register(registry);
+            FunctionCounter.builder("chess.cache.misses", roomCache, RoomCache::getMissCount)
+                    .register(registry);
+            FunctionCounter.builder("chess.cache.evictions", roomCache, RoomCache::getEvictionCount)
+                    .register(registry);
+            Gauge.builder("chess.cache.size", roomCache, RoomCache::size)
+                    .register(registry);
+        };
+    }
+}
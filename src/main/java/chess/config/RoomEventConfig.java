@@ -0,0 +1,43 @@
+package chess.config;
+
+import chess.service.NextMoveNotifier;
+import chess.service.RoomEventBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+public class RoomEventConfig {
+
+    @Bean(destroyMethod = "close")
+    public RoomEventBroadcaster roomEventBroadcaster(
+            final ObjectMapper objectMapper,
+            @Value("${chess.events.buffer-size:32}") final int bufferSize,
+            @Value("${chess.events.timeout:PT30M}") final Duration timeout,
+            @Value("${chess.events.send-timeout:PT5S}") final Duration sendTimeout,
+            @Value("${chess.events.max-stalled-threads:4}") final int maxStalledThreads,
+            @Value("${chess.events.dispatch-threads:4}") final int dispatchThreads) {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("room-event-");
+        threadFactory.setDaemon(true);
+        final ThreadPoolExecutor dispatchExecutor = new ThreadPoolExecutor(dispatchThreads, dispatchThreads,
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        return new RoomEventBroadcaster(objectMapper, bufferSize, timeout, sendTimeout, maxStalledThreads,
+                dispatchExecutor);
+    }
+
+    @Bean(destroyMethod = "close")
+    public NextMoveNotifier nextMoveNotifier(
+            @Value("${chess.events.long-poll-timeout:PT30S}") final Duration timeout,
+            @Value("${chess.events.long-poll-threads:2}") final int completionThreads) {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("next-move-");
+        threadFactory.setDaemon(true);
+        return new NextMoveNotifier(timeout, Executors.newFixedThreadPool(completionThreads, threadFactory));
+    }
+}
@@ -0,0 +1,19 @@
+package chess.config;
+
+import chess.repository.RoomNameBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("!embedded")
+public class RoomNameFilterConfig {
+
+    @Bean
+    public RoomNameBloomFilter roomNameBloomFilter(
+            @Value("${chess.room-name-filter.expected-size:100000}") final int expectedSize,
+            @Value("${chess.room-name-filter.false-positive-rate:0.01}") final double falsePositiveRate) {
+        return new RoomNameBloomFilter(expectedSize, falsePositiveRate);
+    }
+}
@@ -0,0 +1,50 @@
+package chess.config;
+
+import chess.repository.RoomRecordStore;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class RoomRecordTransactionManager extends AbstractPlatformTransactionManager {
+
+    private final RoomRecordStore roomRecordStore;
+
+    public RoomRecordTransactionManager(final RoomRecordStore roomRecordStore) {
+        this.roomRecordStore = roomRecordStore;
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected boolean isExistingTransaction(final Object transaction) {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    @Override
+    protected void doBegin(final Object transaction, final TransactionDefinition definition) {
+    }
+
+    @Override
+    protected Object doSuspend(final Object transaction) {
+        return TransactionSynchronizationManager.unbindResourceIfPossible(roomRecordStore);
+    }
+
+    @Override
+    protected void doResume(final Object transaction, final Object suspendedResources) {
+        if (suspendedResources != null) {
+            TransactionSynchronizationManager.bindResource(roomRecordStore, suspendedResources);
+        }
+    }
+
+    @Override
+    protected void doCommit(final DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(final DefaultTransactionStatus status) {
+    }
+}
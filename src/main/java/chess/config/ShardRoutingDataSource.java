@@ -0,0 +1,39 @@
+package chess.config;
+
+import chess.dao.ShardContext;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final List<DataSource> shardDataSources;
+
+    public ShardRoutingDataSource(final List<DataSource> shardDataSources) {
+        this.shardDataSources = List.copyOf(shardDataSources);
+        final Map<Object, Object> dataSourceByShard = new HashMap<>();
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            dataSourceByShard.put(shard, shardDataSources.get(shard));
+        }
+        setTargetDataSources(dataSourceByShard);
+        setDefaultTargetDataSource(shardDataSources.get(0));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final DataSource shardDataSource : shardDataSources) {
+            if (shardDataSource instanceof Closeable) {
+                ((Closeable) shardDataSource).close();
+            }
+        }
+    }
+}
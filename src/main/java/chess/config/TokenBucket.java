@@ -0,0 +1,63 @@
+package chess.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+
+    private final int capacity;
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAtNanos;
+
+    public TokenBucket(final int capacity, final Duration period, final long nowNanos) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("버킷 크기는 1 이상이어야 합니다.");
+        }
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("충전 주기는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillIntervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstNanos = refillIntervalNanos * capacity;
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    public long tryConsume(final long nowNanos) {
+        return tryConsume(nowNanos, 1);
+    }
+
+    public long tryConsume(final long nowNanos, final int permits) {
+        final long costNanos = toCostNanos(permits);
+        while (true) {
+            final long fullAt = fullAtNanos.get();
+            final long nextFullAt = Math.max(fullAt, nowNanos) + costNanos;
+            final long waitNanos = nextFullAt - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, nextFullAt)) {
+                return 0;
+            }
+        }
+    }
+
+    public void refund(final int permits) {
+        fullAtNanos.addAndGet(-toCostNanos(permits));
+    }
+
+    private long toCostNanos(final int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("토큰은 1개 이상 사용해야 합니다.");
+        }
+        return refillIntervalNanos * Math.min(permits, capacity);
+    }
+
+    public boolean isFull(final long nowNanos) {
+        return fullAtNanos.get() <= nowNanos;
+    }
+
+    public long getFullAtNanos() {
+        return fullAtNanos.get();
+    }
+}
@@ -0,0 +1,18 @@
+package chess.config;
+
+import chess.controller.FenBoardHttpMessageConverter;
+import chess.controller.PackedBoardHttpMessageConverter;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+        converters.add(new FenBoardHttpMessageConverter());
+        converters.add(new PackedBoardHttpMessageConverter());
+    }
+}
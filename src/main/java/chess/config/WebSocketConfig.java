@@ -0,0 +1,55 @@
+package chess.config;
+
+import chess.controller.GameSocketHandler;
+import chess.service.ChessService;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.ServletContextInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private static final String TOMCAT_BINARY_BUFFER_SIZE = "org.apache.tomcat.websocket.binaryBufferSize";
+    private static final String TOMCAT_TEXT_BUFFER_SIZE = "org.apache.tomcat.websocket.textBufferSize";
+
+    private final ChessService chessService;
+    private final RateLimiter rateLimiter;
+    private final Duration sendTimeLimit;
+    private final int sendBufferSizeLimit;
+
+    public WebSocketConfig(final ChessService chessService, final ObjectProvider<RateLimiter> rateLimiter,
+                           @Value("${chess.socket.send-time-limit:PT5S}") final Duration sendTimeLimit,
+                           @Value("${chess.socket.send-buffer-size-limit:4096}") final int sendBufferSizeLimit) {
+        this.chessService = chessService;
+        this.rateLimiter = rateLimiter.getIfAvailable(() -> new RateLimiter(List.of(), 1));
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    @Bean
+    public GameSocketHandler gameSocketHandler() {
+        return new GameSocketHandler(chessService, rateLimiter, (int) sendTimeLimit.toMillis(), sendBufferSizeLimit);
+    }
+
+    @Bean
+    public ServletContextInitializer socketBufferSizeInitializer(
+            @Value("${chess.socket.message-buffer-size:64}") final int messageBufferSize) {
+        return servletContext -> {
+            servletContext.setInitParameter(TOMCAT_BINARY_BUFFER_SIZE, String.valueOf(messageBufferSize));
+            servletContext.setInitParameter(TOMCAT_TEXT_BUFFER_SIZE, String.valueOf(messageBufferSize));
+        };
+    }
+
+    @Override
+    public void registerWebSocketHandlers(final WebSocketHandlerRegistry registry) {
+        registry.addHandler(gameSocketHandler(), "/rooms/*/socket");
+    }
+}
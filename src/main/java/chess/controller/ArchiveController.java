@@ -0,0 +1,28 @@
+package chess.controller;
+
+import chess.dto.response.ArchivedGameDto;
+import chess.service.GameArchiveService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!embedded")
+@RequestMapping("/archives")
+public class ArchiveController {
+
+    private final GameArchiveService gameArchiveService;
+
+    public ArchiveController(final GameArchiveService gameArchiveService) {
+        this.gameArchiveService = gameArchiveService;
+    }
+
+    @GetMapping("/{roomId}")
+    public ResponseEntity<ArchivedGameDto> findArchivedGame(@PathVariable final int roomId) {
+        final ArchivedGameDto archivedGame = gameArchiveService.findArchivedGame(roomId);
+        return ResponseEntity.ok(archivedGame);
+    }
+}
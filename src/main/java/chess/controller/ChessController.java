@@ -1,18 +1,32 @@
 package chess.controller;
 
+import chess.config.RateLimiter;
 import chess.domain.Score;
 import chess.domain.result.EndResult;
+import chess.dto.request.MoveBatchRequestDto;
 import chess.dto.request.MoveRequestDto;
 import chess.dto.request.RoomCreationRequestDto;
 import chess.dto.request.RoomDeletionRequestDto;
+import chess.dto.request.RoomStatesRequestDto;
 import chess.dto.response.ChessPieceDto;
 import chess.dto.response.CurrentTurnDto;
+import chess.dto.response.MoveResultDto;
+import chess.dto.response.RoomCursorPageDto;
 import chess.dto.response.RoomPageDto;
+import chess.dto.response.RoomStateDto;
+import chess.exception.TooManyRequestsException;
 import chess.service.ChessService;
+import chess.service.RoomSnapshot;
+import chess.service.RoomSnapshotService;
 import chess.service.RoomService;
 import java.net.URI;
 import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,21 +34,35 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/rooms")
 public class ChessController {
 
+    private static final String RETURN_REPRESENTATION = "return=representation";
+    private static final List<MediaType> BOARD_MEDIA_TYPES = List.of(
+            FenBoardHttpMessageConverter.MEDIA_TYPE,
+            PackedBoardHttpMessageConverter.MEDIA_TYPE
+    );
+
     private final RoomService roomService;
     private final ChessService chessService;
+    private final RoomSnapshotService roomSnapshotService;
+    private final RateLimiter rateLimiter;
 
-    public ChessController(final RoomService roomService, final ChessService chessService) {
+    public ChessController(final RoomService roomService, final ChessService chessService,
+                           final RoomSnapshotService roomSnapshotService,
+                           final ObjectProvider<RateLimiter> rateLimiter) {
         this.roomService = roomService;
         this.chessService = chessService;
+        this.roomSnapshotService = roomSnapshotService;
+        this.rateLimiter = rateLimiter.getIfAvailable(() -> new RateLimiter(List.of(), 1));
     }
 
     @GetMapping
@@ -43,12 +71,23 @@ public class ChessController {
         return ResponseEntity.ok(roomService.findAll(page, size));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<RoomCursorPageDto> findAllRoomAfter(@RequestParam final Integer cursor,
+                                                              @RequestParam(defaultValue = "10") final Integer size) {
+        return ResponseEntity.ok(roomService.findAllAfter(cursor, size));
+    }
+
     @PostMapping
     public ResponseEntity<Object> createRoom(@RequestBody final RoomCreationRequestDto dto) {
         final int roomId = roomService.createRoom(dto);
         return ResponseEntity.created(URI.create("/rooms/" + roomId)).build();
     }
 
+    @PostMapping("/states")
+    public ResponseEntity<List<RoomStateDto>> findStates(@RequestBody final RoomStatesRequestDto dto) {
+        return ResponseEntity.ok(roomService.findStates(dto));
+    }
+
     @DeleteMapping
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteRoom(@RequestBody RoomDeletionRequestDto dto) {
@@ -61,29 +100,111 @@ public class ChessController {
         roomService.startGame(roomId);
     }
 
+    @GetMapping("/{roomId}/state")
+    public ResponseEntity<byte[]> findState(@PathVariable final int roomId, final WebRequest request) {
+        final int version = roomService.findVersion(roomId);
+        if (request.checkNotModified(String.valueOf(version))) {
+            return null;
+        }
+        final RoomSnapshot snapshot = roomSnapshotService.find(roomId, version);
+        return toSnapshotResponse(snapshot.getVersion(), snapshot.getState());
+    }
+
     @GetMapping("/{roomId}/pieces")
-    public ResponseEntity<List<ChessPieceDto>> findPieces(@PathVariable final int roomId) {
-        final List<ChessPieceDto> chessPieces = chessService.findAllPiece(roomId);
-        return ResponseEntity.ok(chessPieces);
+    public ResponseEntity<Object> findPieces(@PathVariable final int roomId,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT, required = false)
+                                             final String accept,
+                                             final WebRequest request) {
+        final MediaType boardMediaType = selectBoardMediaType(accept);
+        final int version = roomService.findVersion(roomId);
+        final String eTag = version + toETagSuffix(boardMediaType);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (boardMediaType == null) {
+            final RoomSnapshot snapshot = roomSnapshotService.find(roomId, version);
+            if (!snapshot.hasPieces()) {
+                final List<ChessPieceDto> chessPieces = chessService.findAllPiece(roomId);
+                return toRevalidatedResponse(eTag, chessPieces);
+            }
+            return toSnapshotResponse(snapshot.getVersion(), snapshot.getPieces());
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(boardMediaType)
+                .body(chessService.findBoard(roomId));
+    }
+
+    private MediaType selectBoardMediaType(final String accept) {
+        if (accept == null) {
+            return null;
+        }
+        return MediaType.parseMediaTypes(accept)
+                .stream()
+                .filter(mediaType -> !mediaType.isWildcardType() && !mediaType.isWildcardSubtype())
+                .filter(mediaType -> BOARD_MEDIA_TYPES.stream().anyMatch(mediaType::equalsTypeAndSubtype))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private String toETagSuffix(final MediaType boardMediaType) {
+        if (boardMediaType == null) {
+            return "";
+        }
+        return "-" + boardMediaType.getSubtype();
     }
 
     @PatchMapping("/{roomId}/pieces")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void movePiece(@PathVariable final int roomId,
-                          @RequestBody final MoveRequestDto moveRequestDto) {
-        chessService.move(roomId, moveRequestDto);
+    public ResponseEntity<MoveResultDto> movePiece(@PathVariable final int roomId,
+                                                   @RequestBody final MoveRequestDto moveRequestDto,
+                                                   @RequestHeader(value = "Prefer", required = false)
+                                                   final String prefer) {
+        final MoveResultDto moveResult = chessService.move(roomId, moveRequestDto);
+        if (prefer == null || !prefer.contains(RETURN_REPRESENTATION)) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok()
+                .header("Preference-Applied", RETURN_REPRESENTATION)
+                .body(moveResult);
+    }
+
+    @PostMapping("/{roomId}/moves:batch")
+    public ResponseEntity<List<MoveResultDto>> movePieces(@PathVariable final int roomId,
+                                                          @RequestBody final MoveBatchRequestDto moveBatchRequestDto,
+                                                          final HttpServletRequest request) {
+        acquireMoves(moveBatchRequestDto.getMoves(), request);
+        return ResponseEntity.ok(chessService.moveAll(roomId, moveBatchRequestDto));
+    }
+
+    private void acquireMoves(final List<MoveRequestDto> moves, final HttpServletRequest request) {
+        final int permits = moves == null ? 1 : Math.max(1, moves.size());
+        final long waitNanos = rateLimiter.tryAcquire(request.getMethod(), request.getRequestURI(),
+                request.getRemoteAddr(), permits, System.nanoTime());
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(waitNanos);
+        }
     }
 
     @GetMapping("/{roomId}/scores")
-    public ResponseEntity<Score> findScore(@PathVariable final int roomId) {
+    public ResponseEntity<Score> findScore(@PathVariable final int roomId, final WebRequest request) {
+        final String eTag = toETag(roomId);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         final Score score = chessService.findScore(roomId);
-        return ResponseEntity.ok(score);
+        return toRevalidatedResponse(eTag, score);
     }
 
     @GetMapping("/{roomId}/turn")
-    public ResponseEntity<CurrentTurnDto> findTurn(@PathVariable final int roomId) {
+    public ResponseEntity<CurrentTurnDto> findTurn(@PathVariable final int roomId, final WebRequest request) {
+        final String eTag = toETag(roomId);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         final CurrentTurnDto currentTurn = roomService.findCurrentTurn(roomId);
-        return ResponseEntity.ok(currentTurn);
+        return toRevalidatedResponse(eTag, currentTurn);
     }
 
     @GetMapping("/{roomId}/result")
@@ -91,4 +212,25 @@ public class ChessController {
         final EndResult endResult = chessService.result(roomId);
         return ResponseEntity.ok(endResult);
     }
+
+    private String toETag(final int roomId) {
+        return String.valueOf(roomService.findVersion(roomId));
+    }
+
+    private <T> ResponseEntity<T> toSnapshotResponse(final int version, final T body) {
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(version))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private <T> ResponseEntity<T> toRevalidatedResponse(final String eTag, final T body) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
 }
@@ -0,0 +1,43 @@
+package chess.controller;
+
+import chess.domain.chessboard.ChessBoard;
+import chess.dto.FenMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+public class FenBoardHttpMessageConverter extends AbstractHttpMessageConverter<ChessBoard> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-chess-fen";
+    public static final MediaType MEDIA_TYPE = MediaType.valueOf(MEDIA_TYPE_VALUE);
+
+    public FenBoardHttpMessageConverter() {
+        super(StandardCharsets.US_ASCII, MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return ChessBoard.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ChessBoard readInternal(final Class<? extends ChessBoard> clazz, final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("FEN으로 체스판을 받을 수 없습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(final ChessBoard chessBoard, final HttpOutputMessage outputMessage)
+            throws IOException {
+        final String fen = FenMapper.toFen(chessBoard.findAllPiece(), chessBoard.getCurrentTurnColor());
+        outputMessage.getBody().write(fen.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,41 @@
+package chess.controller;
+
+import chess.dto.ExportFormat;
+import chess.dto.request.GameExportRequestDto;
+import chess.service.GameExportService;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@Profile("!embedded")
+@RequestMapping("/games")
+public class GameExportController {
+
+    private final GameExportService gameExportService;
+
+    public GameExportController(final GameExportService gameExportService) {
+        this.gameExportService = gameExportService;
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportGames(
+            @RequestParam(defaultValue = "ndjson") final String format,
+            @RequestParam(name = "status", defaultValue = "") final List<String> statuses,
+            @RequestParam(required = false) final Integer fromRoomId,
+            @RequestParam(required = false) final Integer toRoomId) {
+        final ExportFormat exportFormat = ExportFormat.from(format);
+        final GameExportRequestDto request = GameExportRequestDto.of(statuses, fromRoomId, toRoomId);
+        final StreamingResponseBody body = outputStream -> gameExportService.export(
+                exportFormat, request, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
+}
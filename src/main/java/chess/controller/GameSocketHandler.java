@@ -0,0 +1,188 @@
+package chess.controller;
+
+import chess.config.RateLimiter;
+import chess.domain.GameStatus;
+import chess.domain.chesspiece.Color;
+import chess.dto.GameFrameCodec;
+import chess.dto.GameFrameCodec.MoveFrame;
+import chess.dto.request.MoveRequestDto;
+import chess.dto.response.MoveResultDto;
+import chess.exception.ConflictException;
+import chess.exception.NotFoundException;
+import chess.service.ChessService;
+import chess.service.GameStatusChangedEvent;
+import chess.service.PieceMovedEvent;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+public class GameSocketHandler extends BinaryWebSocketHandler {
+
+    private static final String ROOM_ID_ATTRIBUTE = "roomId";
+    private static final String SENDER_ATTRIBUTE = "sender";
+    private static final String MOVE_METHOD = "PATCH";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ChessService chessService;
+    private final RateLimiter rateLimiter;
+    private final int sendTimeLimit;
+    private final int sendBufferSizeLimit;
+    private final Map<Integer, Set<WebSocketSession>> sendersByRoomId = new ConcurrentHashMap<>();
+
+    public GameSocketHandler(final ChessService chessService, final RateLimiter rateLimiter,
+                             final int sendTimeLimit, final int sendBufferSizeLimit) {
+        this.chessService = chessService;
+        this.rateLimiter = rateLimiter;
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    @Override
+    public void afterConnectionEstablished(final WebSocketSession session) throws IOException {
+        final Integer roomId = parseRoomId(session.getUri());
+        if (roomId == null) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        final WebSocketSession sender = new ConcurrentWebSocketSessionDecorator(
+                session, sendTimeLimit, sendBufferSizeLimit, OverflowStrategy.TERMINATE);
+        session.getAttributes().put(ROOM_ID_ATTRIBUTE, roomId);
+        session.getAttributes().put(SENDER_ATTRIBUTE, sender);
+        sendersByRoomId.compute(roomId, (ignored, senders) -> {
+            final Set<WebSocketSession> roomSenders = senders == null ? ConcurrentHashMap.newKeySet() : senders;
+            roomSenders.add(sender);
+            return roomSenders;
+        });
+    }
+
+    private Integer parseRoomId(final URI uri) {
+        if (uri == null) {
+            return null;
+        }
+        final String[] segments = uri.getPath().split("/");
+        if (segments.length < 2) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(segments[segments.length - 2]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void handleBinaryMessage(final WebSocketSession session, final BinaryMessage message) {
+        final int roomId = (int) session.getAttributes().get(ROOM_ID_ATTRIBUTE);
+        final WebSocketSession sender = (WebSocketSession) session.getAttributes().get(SENDER_ATTRIBUTE);
+        final ByteBuffer payload = message.getPayload();
+        final MoveFrame moveFrame;
+        try {
+            moveFrame = GameFrameCodec.decodeMove(payload.duplicate());
+        } catch (IllegalArgumentException e) {
+            final int sequence = payload.remaining() >= Integer.BYTES ? payload.getInt(payload.position()) : 0;
+            send(roomId, sender, GameFrameCodec.encodeResult(sequence, GameFrameCodec.RESULT_MALFORMED));
+            return;
+        }
+        final byte resultCode = move(roomId, toClientAddress(session), moveFrame);
+        send(roomId, sender, GameFrameCodec.encodeResult(moveFrame.getSequence(), resultCode));
+    }
+
+    private String toClientAddress(final WebSocketSession session) {
+        final InetSocketAddress remoteAddress = session.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "";
+        }
+        return remoteAddress.getHostString();
+    }
+
+    private byte move(final int roomId, final String clientAddress, final MoveFrame moveFrame) {
+        final long waitNanos = rateLimiter.tryAcquire(MOVE_METHOD, "/rooms/" + roomId + "/pieces", clientAddress, 1,
+                System.nanoTime());
+        if (waitNanos > 0) {
+            return GameFrameCodec.RESULT_RATE_LIMITED;
+        }
+        try {
+            chessService.move(roomId, new MoveRequestDto(
+                    moveFrame.getFrom().getValue(), moveFrame.getTo().getValue()));
+            return GameFrameCodec.RESULT_OK;
+        } catch (NotFoundException e) {
+            return GameFrameCodec.RESULT_NOT_FOUND;
+        } catch (ConflictException e) {
+            return GameFrameCodec.RESULT_CONFLICT;
+        } catch (IllegalArgumentException e) {
+            return GameFrameCodec.RESULT_INVALID_MOVE;
+        } catch (RuntimeException e) {
+            logger.error("웹소켓 이동 요청을 처리하지 못했습니다. roomId={}", roomId, e);
+            return GameFrameCodec.RESULT_SERVER_ERROR;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPieceMoved(final PieceMovedEvent event) {
+        final Set<WebSocketSession> senders = sendersByRoomId.get(event.getRoomId());
+        if (senders == null) {
+            return;
+        }
+        final MoveResultDto moveResult = event.getMoveResult();
+        final byte[] frame = GameFrameCodec.encodeMoved(event.getVersion(), event.getFrom(), event.getTo(),
+                GameStatus.from(moveResult.getGameStatus()), Color.from(moveResult.getCurrentTurn()));
+        senders.forEach(sender -> send(event.getRoomId(), sender, frame));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatusChanged(final GameStatusChangedEvent event) {
+        final Set<WebSocketSession> senders = sendersByRoomId.get(event.getRoomId());
+        if (senders == null) {
+            return;
+        }
+        final byte[] frame = GameFrameCodec.encodeStatus(event.getVersion(), event.getGameStatus(),
+                Color.from(event.getRoomState().getCurrentTurn()));
+        senders.forEach(sender -> send(event.getRoomId(), sender, frame));
+    }
+
+    private void send(final int roomId, final WebSocketSession sender, final byte[] frame) {
+        try {
+            sender.sendMessage(new BinaryMessage(frame));
+        } catch (IOException | SessionLimitExceededException e) {
+            remove(roomId, sender);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(final WebSocketSession session, final CloseStatus status) {
+        final Object roomId = session.getAttributes().get(ROOM_ID_ATTRIBUTE);
+        final Object sender = session.getAttributes().get(SENDER_ATTRIBUTE);
+        if (roomId != null && sender != null) {
+            remove((int) roomId, (WebSocketSession) sender);
+        }
+    }
+
+    private void remove(final int roomId, final WebSocketSession sender) {
+        sendersByRoomId.computeIfPresent(roomId, (ignored, senders) -> {
+            senders.remove(sender);
+            return senders.isEmpty() ? null : senders;
+        });
+    }
+
+    public int getConnectionCount(final int roomId) {
+        final Set<WebSocketSession> senders = sendersByRoomId.get(roomId);
+        if (senders == null) {
+            return 0;
+        }
+        return senders.size();
+    }
+}
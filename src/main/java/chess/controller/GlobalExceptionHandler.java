@@ -1,13 +1,18 @@
 package chess.controller;
 
 import chess.dto.response.ErrorResponseDto;
+import chess.dto.response.IllegalMoveResponseDto;
+import chess.exception.ConflictException;
+import chess.exception.IllegalMoveException;
 import chess.exception.NotFoundException;
+import chess.exception.TooManyRequestsException;
 import javax.servlet.http.HttpServletRequest;
 import org.joda.time.LocalDateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -23,12 +28,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(new ErrorResponseDto(e.getMessage()));
     }
 
+    @ExceptionHandler({IllegalMoveException.class})
+    public ResponseEntity<IllegalMoveResponseDto> handleIllegalMove(final IllegalMoveException e) {
+        return ResponseEntity.badRequest().body(IllegalMoveResponseDto.of(e.getMoveIndex(), e.getMessage()));
+    }
+
     @ExceptionHandler({NotFoundException.class})
     public ResponseEntity<ErrorResponseDto> handleNotFound(final NotFoundException e) {
         final ErrorResponseDto errorResponseDto = new ErrorResponseDto(e.getMessage());
         return new ResponseEntity<>(errorResponseDto, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler({ConflictException.class})
+    public ResponseEntity<ErrorResponseDto> handleConflict(final ConflictException e) {
+        final ErrorResponseDto errorResponseDto = new ErrorResponseDto(e.getMessage());
+        return new ResponseEntity<>(errorResponseDto, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler({TooManyRequestsException.class})
+    public ResponseEntity<ErrorResponseDto> handleTooManyRequests(final TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponseDto(e.getMessage()));
+    }
+
     @ExceptionHandler({EmptyResultDataAccessException.class})
     public ResponseEntity<ErrorResponseDto> handleEmptyResultDataAccessException(
             final EmptyResultDataAccessException e) {
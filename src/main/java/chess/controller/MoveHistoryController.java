@@ -0,0 +1,30 @@
+package chess.controller;
+
+import chess.dto.response.MoveDto;
+import chess.service.MoveHistoryService;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!embedded")
+@RequestMapping("/rooms")
+public class MoveHistoryController {
+
+    private final MoveHistoryService moveHistoryService;
+
+    public MoveHistoryController(final MoveHistoryService moveHistoryService) {
+        this.moveHistoryService = moveHistoryService;
+    }
+
+    @GetMapping("/{roomId}/moves")
+    public ResponseEntity<List<MoveDto>> findMoves(@PathVariable final int roomId,
+                                                   @RequestParam(defaultValue = "0") final Integer fromPly) {
+        return ResponseEntity.ok(moveHistoryService.findMoves(roomId, fromPly));
+    }
+}
@@ -0,0 +1,44 @@
+package chess.controller;
+
+import chess.dto.response.RoomStateDto;
+import chess.service.NextMoveNotifier;
+import chess.service.RoomEventBroadcaster;
+import chess.service.RoomEventEmitter;
+import chess.service.RoomService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+@RequestMapping("/rooms")
+public class RoomEventController {
+
+    private final RoomService roomService;
+    private final RoomEventBroadcaster roomEventBroadcaster;
+    private final NextMoveNotifier nextMoveNotifier;
+
+    public RoomEventController(final RoomService roomService, final RoomEventBroadcaster roomEventBroadcaster,
+                               final NextMoveNotifier nextMoveNotifier) {
+        this.roomService = roomService;
+        this.roomEventBroadcaster = roomEventBroadcaster;
+        this.nextMoveNotifier = nextMoveNotifier;
+    }
+
+    @GetMapping(value = "/{roomId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public RoomEventEmitter subscribe(@PathVariable final int roomId) {
+        return roomEventBroadcaster.subscribe(roomId, () -> roomService.findState(roomId));
+    }
+
+    @GetMapping("/{roomId}/next-move")
+    public DeferredResult<ResponseEntity<RoomStateDto>> awaitNextMove(@PathVariable final int roomId,
+                                                                      @RequestParam final int since) {
+        return nextMoveNotifier.await(roomId, since,
+                () -> roomService.findVersion(roomId),
+                () -> roomService.findState(roomId));
+    }
+}
@@ -5,18 +5,23 @@ import chess.domain.position.Position;
 import chess.dto.ChessPieceMapper;
 import chess.entity.ChessPieceEntity;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 @Repository
+@Profile("!embedded")
 public class ChessPieceDao {
 
+    private static final int MAX_ROWS_PER_INSERT = 500;
+
     private final JdbcTemplate jdbcTemplate;
 
     public ChessPieceDao(final JdbcTemplate jdbcTemplate) {
@@ -34,27 +39,78 @@ public class ChessPieceDao {
         return jdbcTemplate.query(sql, rowMapper, roomId);
     }
 
+    public List<ChessPieceEntity> findAllEntityByRoomIds(final List<Integer> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        final String sql = "SELECT * FROM chess_piece WHERE room_id IN (" + toPlaceholders(roomIds) + ")";
+        final RowMapper<ChessPieceEntity> rowMapper = (resultSet, rowNum) -> new ChessPieceEntity(
+                resultSet.getInt("chess_piece_id"),
+                resultSet.getInt("room_id"),
+                resultSet.getString("position"),
+                resultSet.getString("chess_piece"),
+                resultSet.getString("color"));
+        return jdbcTemplate.query(sql, rowMapper, roomIds.toArray());
+    }
+
+    private String toPlaceholders(final List<?> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+
+    public int deleteAllByRoomIds(final List<Integer> roomIds) {
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+        final String sql = "DELETE FROM chess_piece WHERE room_id IN (" + toPlaceholders(roomIds) + ")";
+        return jdbcTemplate.update(sql, roomIds.toArray());
+    }
+
     public int deleteByRoomIdAndPosition(final int roomId, final Position position) {
         final String sql = "DELETE FROM chess_piece WHERE room_id = ? AND position = ?";
         return jdbcTemplate.update(sql, roomId, position.getValue());
     }
 
-    @Transactional
+    public int deleteAllByRoomIdAndPositions(final int roomId, final Set<Position> positions) {
+        if (positions.isEmpty()) {
+            return 0;
+        }
+        final String sql = "DELETE FROM chess_piece WHERE room_id = ? AND position IN ("
+                + String.join(", ", Collections.nCopies(positions.size(), "?")) + ")";
+        final Object[] arguments = new Object[positions.size() + 1];
+        arguments[0] = roomId;
+        int index = 1;
+        for (final Position position : positions) {
+            arguments[index++] = position.getValue();
+        }
+        return jdbcTemplate.update(sql, arguments);
+    }
+
     public int saveAll(final int roomId, final Map<Position, ChessPiece> pieceByPosition) {
-        String sql = "INSERT INTO chess_piece (room_id, position, chess_piece, color) VALUES (?, ?, ?, ?)";
-        final List<Object[]> batchArguments = toBatchArguments(roomId, pieceByPosition);
-        final int[] result = jdbcTemplate.batchUpdate(sql, batchArguments);
-        return Arrays.stream(result).sum();
+        final List<Object[]> rows = toRows(roomId, pieceByPosition);
+        int insertedRow = 0;
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_INSERT) {
+            insertedRow += insertRows(rows.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, rows.size())));
+        }
+        return insertedRow;
+    }
+
+    private int insertRows(final List<Object[]> rows) {
+        final String sql = "INSERT INTO chess_piece (room_id, position, chess_piece, color) VALUES "
+                + String.join(", ", Collections.nCopies(rows.size(), "(?, ?, ?, ?)"));
+        final Object[] arguments = rows.stream()
+                .flatMap(Arrays::stream)
+                .toArray();
+        return jdbcTemplate.update(sql, arguments);
     }
 
-    private List<Object[]> toBatchArguments(final int roomId, final Map<Position, ChessPiece> pieceByPosition) {
+    private List<Object[]> toRows(final int roomId, final Map<Position, ChessPiece> pieceByPosition) {
         return pieceByPosition.entrySet()
                 .stream()
-                .map(entry -> toBatchArgument(roomId, entry))
+                .map(entry -> toRow(roomId, entry))
                 .collect(Collectors.toList());
     }
 
-    private Object[] toBatchArgument(final int roomId, final Entry<Position, ChessPiece> entry) {
+    private Object[] toRow(final int roomId, final Entry<Position, ChessPiece> entry) {
         return new Object[]{
                 roomId,
                 entry.getKey().getValue(),
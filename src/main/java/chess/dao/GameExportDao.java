@@ -0,0 +1,111 @@
+package chess.dao;
+
+import chess.entity.ChessPieceEntity;
+import chess.entity.RoomEntity;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("!embedded")
+public class GameExportDao {
+
+    private static final String SELECT_SQL = "SELECT r.room_id, r.name, r.game_status, r.current_turn, r.password, "
+            + "r.is_delete, r.version, p.chess_piece_id, p.position, p.chess_piece, p.color "
+            + "FROM room r LEFT JOIN chess_piece p ON r.room_id = p.room_id "
+            + "WHERE r.is_delete = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GameExportDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void findAllWithPieces(final List<String> gameStatuses, final Integer fromRoomId, final Integer toRoomId,
+                                  final int fetchSize,
+                                  final BiConsumer<RoomEntity, List<ChessPieceEntity>> consumer) {
+        final StringBuilder sql = new StringBuilder(SELECT_SQL);
+        final List<Object> arguments = new ArrayList<>();
+        arguments.add(false);
+        if (!gameStatuses.isEmpty()) {
+            sql.append(" AND r.game_status IN (")
+                    .append(String.join(", ", Collections.nCopies(gameStatuses.size(), "?")))
+                    .append(")");
+            arguments.addAll(gameStatuses);
+        }
+        if (fromRoomId != null) {
+            sql.append(" AND r.room_id >= ?");
+            arguments.add(fromRoomId);
+        }
+        if (toRoomId != null) {
+            sql.append(" AND r.room_id <= ?");
+            arguments.add(toRoomId);
+        }
+        sql.append(" ORDER BY r.room_id");
+
+        final GameRowCallbackHandler rowCallbackHandler = new GameRowCallbackHandler(consumer);
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < arguments.size(); i++) {
+                statement.setObject(i + 1, arguments.get(i));
+            }
+            return statement;
+        }, rowCallbackHandler);
+        rowCallbackHandler.flush();
+    }
+
+    private static class GameRowCallbackHandler implements RowCallbackHandler {
+
+        private final BiConsumer<RoomEntity, List<ChessPieceEntity>> consumer;
+        private RoomEntity currentRoom;
+        private List<ChessPieceEntity> currentPieces = new ArrayList<>();
+
+        private GameRowCallbackHandler(final BiConsumer<RoomEntity, List<ChessPieceEntity>> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final int roomId = resultSet.getInt("room_id");
+            if (currentRoom == null || currentRoom.getRoomId() != roomId) {
+                flush();
+                currentRoom = new RoomEntity(
+                        roomId,
+                        resultSet.getString("name"),
+                        resultSet.getString("game_status"),
+                        resultSet.getString("current_turn"),
+                        resultSet.getString("password"),
+                        resultSet.getBoolean("is_delete"),
+                        resultSet.getInt("version"));
+            }
+            final String position = resultSet.getString("position");
+            if (position != null) {
+                currentPieces.add(new ChessPieceEntity(
+                        resultSet.getInt("chess_piece_id"),
+                        roomId,
+                        position,
+                        resultSet.getString("chess_piece"),
+                        resultSet.getString("color")));
+            }
+        }
+
+        private void flush() {
+            if (currentRoom == null) {
+                return;
+            }
+            consumer.accept(currentRoom, currentPieces);
+            currentRoom = null;
+            currentPieces = new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package chess.dao;
+
+import chess.exception.NotFoundException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@Profile("!embedded")
+public class IdSequenceDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public long reserve(final String sequenceName, final int blockSize) {
+        final String updateSql = "UPDATE id_sequence SET next_value = next_value + ? WHERE name = ?";
+        final int updatedRow = jdbcTemplate.update(updateSql, blockSize, sequenceName);
+        if (updatedRow == 0) {
+            throw new NotFoundException("ID 시퀀스가 존재하지 않습니다.");
+        }
+        final String selectSql = "SELECT next_value FROM id_sequence WHERE name = ?";
+        final long nextValue = jdbcTemplate.queryForObject(selectSql, Long.class, sequenceName);
+        return nextValue - blockSize;
+    }
+}
@@ -0,0 +1,57 @@
+package chess.dao;
+
+import chess.entity.MoveHistoryEntity;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("!embedded")
+public class MoveHistoryDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MoveHistoryDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<MoveHistoryEntity> findByRoomId(final int roomId) {
+        try {
+            final String sql = "SELECT room_id, ply_count, moves FROM move_history WHERE room_id = ?";
+            final RowMapper<MoveHistoryEntity> rowMapper = (resultSet, rowNum) -> new MoveHistoryEntity(
+                    resultSet.getInt("room_id"),
+                    resultSet.getInt("ply_count"),
+                    resultSet.getBytes("moves"));
+            return Optional.of(jdbcTemplate.queryForObject(sql, rowMapper, roomId));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    public int save(final MoveHistoryEntity moveHistoryEntity) {
+        final String sql = "INSERT INTO move_history (room_id, ply_count, moves) VALUES (?, ?, ?)";
+        return jdbcTemplate.update(sql, moveHistoryEntity.getRoomId(), moveHistoryEntity.getPlyCount(),
+                moveHistoryEntity.getMoves());
+    }
+
+    public int append(final MoveHistoryEntity moveHistoryEntity) {
+        final String sql = "UPDATE move_history SET ply_count = ply_count + ?, moves = CONCAT(moves, ?) "
+                + "WHERE room_id = ?";
+        return jdbcTemplate.update(sql, moveHistoryEntity.getPlyCount(), moveHistoryEntity.getMoves(),
+                moveHistoryEntity.getRoomId());
+    }
+
+    public int deleteAllByRoomIds(final List<Integer> roomIds) {
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+        final String sql = "DELETE FROM move_history WHERE room_id IN ("
+                + String.join(", ", Collections.nCopies(roomIds.size(), "?")) + ")";
+        return jdbcTemplate.update(sql, roomIds.toArray());
+    }
+}
@@ -0,0 +1,54 @@
+package chess.dao;
+
+import chess.entity.RoomArchiveEntity;
+import chess.exception.NotFoundException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("!embedded")
+public class RoomArchiveDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RoomArchiveDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public RoomArchiveEntity findByRoomId(final int roomId) {
+        try {
+            final String sql = "SELECT * FROM room_archive WHERE room_id = ?";
+            final RowMapper<RoomArchiveEntity> rowMapper = (resultSet, rowNum) -> new RoomArchiveEntity(
+                    resultSet.getInt("room_id"),
+                    resultSet.getString("name"),
+                    resultSet.getString("game_status"),
+                    resultSet.getString("current_turn"),
+                    resultSet.getBytes("board"));
+            return jdbcTemplate.queryForObject(sql, rowMapper, roomId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new NotFoundException("보관된 게임이 존재하지 않습니다.");
+        }
+    }
+
+    public int saveAll(final List<RoomArchiveEntity> roomArchiveEntities) {
+        final String sql = "INSERT INTO room_archive (room_id, name, game_status, current_turn, board) "
+                + "VALUES (?, ?, ?, ?, ?)";
+        final List<Object[]> batchArguments = roomArchiveEntities.stream()
+                .map(it -> new Object[]{
+                        it.getRoomId(),
+                        it.getName(),
+                        it.getGameStatus(),
+                        it.getCurrentTurn(),
+                        it.getBoard()
+                })
+                .collect(Collectors.toList());
+        final int[] result = jdbcTemplate.batchUpdate(sql, batchArguments);
+        return Arrays.stream(result).sum();
+    }
+}
@@ -4,24 +4,37 @@ import chess.domain.GameStatus;
 import chess.domain.chesspiece.Color;
 import chess.entity.RoomEntity;
 import chess.exception.NotFoundException;
-import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Repository
+@Profile("!embedded")
 public class RoomDao {
 
+    private static final int MAX_ROWS_PER_INSERT = 500;
+
     private final JdbcTemplate jdbcTemplate;
+    private final RoomIdGenerator roomIdGenerator;
+    private final TransactionTemplate transactionTemplate;
 
-    public RoomDao(final JdbcTemplate jdbcTemplate) {
+    public RoomDao(final JdbcTemplate jdbcTemplate, final RoomIdGenerator roomIdGenerator,
+                   final PlatformTransactionManager transactionManager) {
         this.jdbcTemplate = jdbcTemplate;
+        this.roomIdGenerator = roomIdGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public RoomEntity findById(final int roomId) {
@@ -41,16 +54,23 @@ public class RoomDao {
                 resultSet.getString("game_status"),
                 resultSet.getString("current_turn"),
                 resultSet.getString("password"),
-                Boolean.parseBoolean(resultSet.getString("is_delete"))
+                Boolean.parseBoolean(resultSet.getString("is_delete")),
+                resultSet.getInt("version")
         );
     }
 
     public List<RoomEntity> findAll(final int page, final int size) {
-        final String sql = "SELECT * FROM room WHERE is_delete = ? LIMIT ? OFFSET ?";
+        final String sql = "SELECT * FROM room WHERE is_delete = ? ORDER BY room_id LIMIT ? OFFSET ?";
         final RowMapper<RoomEntity> rowMapper = createRoomEntityRowMapper();
         return jdbcTemplate.query(sql, rowMapper, false, size, calculatePage(page, size));
     }
 
+    public List<RoomEntity> findAllAfter(final int afterRoomId, final int size) {
+        final String sql = "SELECT * FROM room WHERE is_delete = ? AND room_id > ? ORDER BY room_id LIMIT ?";
+        final RowMapper<RoomEntity> rowMapper = createRoomEntityRowMapper();
+        return jdbcTemplate.query(sql, rowMapper, false, afterRoomId, size);
+    }
+
     private int calculatePage(final int page, final int size) {
         if (page < 1) {
             return 0;
@@ -60,42 +80,109 @@ public class RoomDao {
 
     public Optional<RoomEntity> findByName(final String roomName) {
         try {
-            final String sql = "SELECT * FROM room WHERE name = ? AND is_delete = ?";
+            final String sql = "SELECT * FROM room WHERE active_name = ?";
             final RowMapper<RoomEntity> rowMapper = createRoomEntityRowMapper();
-            final RoomEntity roomEntity = jdbcTemplate.queryForObject(sql, rowMapper, roomName, false);
+            final RoomEntity roomEntity = jdbcTemplate.queryForObject(sql, rowMapper, roomName);
             return Optional.of(roomEntity);
         } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
         }
     }
 
+    public void forEachActiveName(final Consumer<String> consumer) {
+        final String sql = "SELECT active_name FROM room WHERE active_name IS NOT NULL";
+        final RowCallbackHandler rowCallbackHandler = resultSet -> consumer.accept(resultSet.getString("active_name"));
+        jdbcTemplate.query(sql, rowCallbackHandler);
+    }
+
     public int count() {
         final String sql = "SELECT COUNT(*) FROM room WHERE is_delete = ?";
         return jdbcTemplate.queryForObject(sql, Integer.class, false);
     }
 
     public int save(final RoomEntity roomEntity) {
-        final String sql = "INSERT INTO room (name, game_status, current_turn, password) VALUES (?, ?, ?, ?)";
-        final KeyHolder keyHolder = new GeneratedKeyHolder();
-        final PreparedStatementCreator statementCreator = con -> {
-            final PreparedStatement ps = con.prepareStatement(sql, new String[]{"room_id"});
-            ps.setString(1, roomEntity.getName());
-            ps.setString(2, roomEntity.getGameStatus());
-            ps.setString(3, roomEntity.getCurrentTurn());
-            ps.setString(4, roomEntity.getPassword());
-            return ps;
-        };
-        jdbcTemplate.update(statementCreator, keyHolder);
-        return keyHolder.getKey().intValue();
+        return saveAll(List.of(roomEntity)).get(0);
+    }
+
+    public List<Integer> saveAll(final List<RoomEntity> roomEntities) {
+        final List<Integer> roomIds = roomIdGenerator.next(roomEntities.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < roomEntities.size(); from += MAX_ROWS_PER_INSERT) {
+                final int to = Math.min(from + MAX_ROWS_PER_INSERT, roomEntities.size());
+                insertRows(roomIds.subList(from, to), roomEntities.subList(from, to));
+            }
+        });
+        return roomIds;
+    }
+
+    private void insertRows(final List<Integer> roomIds, final List<RoomEntity> roomEntities) {
+        final String sql = "INSERT INTO room (room_id, name, game_status, current_turn, password) VALUES "
+                + String.join(", ", Collections.nCopies(roomEntities.size(), "(?, ?, ?, ?, ?)"));
+        final List<Object> args = new ArrayList<>(roomEntities.size() * 5);
+        for (int i = 0; i < roomEntities.size(); i++) {
+            final RoomEntity roomEntity = roomEntities.get(i);
+            args.add(roomIds.get(i));
+            args.add(roomEntity.getName());
+            args.add(roomEntity.getGameStatus());
+            args.add(roomEntity.getCurrentTurn());
+            args.add(roomEntity.getPassword());
+        }
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    public List<RoomEntity> findAllByIds(final List<Integer> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        final String sql = "SELECT * FROM room WHERE room_id IN (" + toPlaceholders(roomIds) + ")";
+        final RowMapper<RoomEntity> rowMapper = createRoomEntityRowMapper();
+        return jdbcTemplate.query(sql, rowMapper, roomIds.toArray());
+    }
+
+    private String toPlaceholders(final List<?> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+
+    public List<Integer> findAllFinishedIdsUpdatedBefore(final LocalDateTime updatedBefore, final int limit) {
+        final String sql = "SELECT room_id FROM room "
+                + "WHERE game_status IN (?, ?) AND is_delete = ? AND updated_at < ? "
+                + "ORDER BY room_id LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Integer.class, GameStatus.END.getValue(),
+                GameStatus.KING_DIE.getValue(), false, Timestamp.valueOf(updatedBefore), limit);
+    }
+
+    public List<Integer> findAllDeletedIdsAfter(final int afterRoomId, final LocalDateTime deletedBefore,
+                                                final int limit) {
+        final String sql = "SELECT room_id FROM room "
+                + "WHERE is_delete = ? AND room_id > ? AND updated_at < ? "
+                + "ORDER BY room_id LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Integer.class, true, afterRoomId, Timestamp.valueOf(deletedBefore),
+                limit);
     }
 
     public int deleteById(final int roomId) {
-        final String sql = "UPDATE room SET is_delete = ? WHERE room_id = ?";
+        final String sql = "UPDATE room SET is_delete = ?, updated_at = CURRENT_TIMESTAMP WHERE room_id = ?";
         return jdbcTemplate.update(sql, true, roomId);
     }
 
-    public int updateById(final int roomId, final GameStatus gameStatus, final Color currentTurn) {
-        final String sql = "UPDATE room SET game_status = ?, current_turn = ? WHERE room_id = ?";
-        return jdbcTemplate.update(sql, gameStatus.getValue(), currentTurn.getValue(), roomId);
+    public int purgeAllByIds(final List<Integer> roomIds) {
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+        final String sql = "DELETE FROM room WHERE room_id IN (" + toPlaceholders(roomIds) + ")";
+        return jdbcTemplate.update(sql, roomIds.toArray());
+    }
+
+    public int updateById(final int roomId, final GameStatus gameStatus, final Color currentTurn,
+                          final int version) {
+        return updateById(roomId, gameStatus, currentTurn, version, 1);
+    }
+
+    public int updateById(final int roomId, final GameStatus gameStatus, final Color currentTurn,
+                          final int version, final int versionIncrement) {
+        final String sql = "UPDATE room SET game_status = ?, current_turn = ?, version = version + ?, "
+                + "updated_at = CURRENT_TIMESTAMP WHERE room_id = ? AND version = ?";
+        return jdbcTemplate.update(sql, gameStatus.getValue(), currentTurn.getValue(), versionIncrement, roomId,
+                version);
     }
 }
@@ -0,0 +1,94 @@
+package chess.dao;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@Profile("!embedded")
+public class RoomIdGenerator {
+
+    private static final String SEQUENCE_NAME = "room";
+
+    private final IdSequenceDao idSequenceDao;
+    private final RoomShardRouter roomShardRouter;
+    private final int blockSize;
+    private final Map<Integer, Deque<IdBlock>> idBlocksByShard = new HashMap<>();
+
+    public RoomIdGenerator(final IdSequenceDao idSequenceDao, final RoomShardRouter roomShardRouter,
+                           @Value("${chess.id.block-size:50}") final int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("ID 블록 크기는 1 이상이어야 합니다.");
+        }
+        this.idSequenceDao = idSequenceDao;
+        this.roomShardRouter = roomShardRouter;
+        this.blockSize = blockSize;
+    }
+
+    public int next() {
+        return next(1).get(0);
+    }
+
+    public List<Integer> next(final int count) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("ID 는 트랜잭션을 시작하기 전에 발급해야 합니다.");
+        }
+        final int shard = ShardContext.current();
+        final List<Integer> ids = new ArrayList<>(count);
+        take(shard, ids, count);
+        while (ids.size() < count) {
+            final int reserveSize = Math.max(blockSize, count - ids.size());
+            final long firstValue = idSequenceDao.reserve(SEQUENCE_NAME, reserveSize);
+            addBlock(shard, new IdBlock(firstValue, reserveSize));
+            take(shard, ids, count);
+        }
+        return ids;
+    }
+
+    private synchronized void take(final int shard, final List<Integer> ids, final int count) {
+        final Deque<IdBlock> idBlocks = idBlocksByShard.computeIfAbsent(shard, ignored -> new ArrayDeque<>());
+        while (!idBlocks.isEmpty() && ids.size() < count) {
+            final IdBlock idBlock = idBlocks.peekFirst();
+            while (idBlock.hasNext() && ids.size() < count) {
+                ids.add(toRoomId(idBlock.next(), shard));
+            }
+            if (!idBlock.hasNext()) {
+                idBlocks.pollFirst();
+            }
+        }
+    }
+
+    private synchronized void addBlock(final int shard, final IdBlock idBlock) {
+        idBlocksByShard.computeIfAbsent(shard, ignored -> new ArrayDeque<>()).addLast(idBlock);
+    }
+
+    private int toRoomId(final long sequenceValue, final int shard) {
+        return Math.toIntExact(sequenceValue * roomShardRouter.getShardCount() + shard);
+    }
+
+    private static class IdBlock {
+
+        private long nextValue;
+        private final long limitValue;
+
+        private IdBlock(final long firstValue, final int size) {
+            this.nextValue = firstValue;
+            this.limitValue = firstValue + size;
+        }
+
+        private boolean hasNext() {
+            return nextValue < limitValue;
+        }
+
+        private long next() {
+            return nextValue++;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package chess.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@Profile("!embedded")
+public class RoomShardRouter {
+
+    private final int shardCount;
+    private final RoomShardStrategy roomShardStrategy;
+    private final TransactionTemplate shardReadTransactionTemplate;
+
+    public RoomShardRouter(@Value("${chess.datasource.shard.urls:}") final List<String> shardUrls,
+                           final ObjectProvider<RoomShardStrategy> roomShardStrategy,
+                           final PlatformTransactionManager transactionManager) {
+        this.shardCount = shardUrls.size() + 1;
+        this.roomShardStrategy = roomShardStrategy.getIfAvailable(RoundRobinRoomShardStrategy::new);
+        this.shardReadTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardReadTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardReadTransactionTemplate.setReadOnly(true);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public List<Integer> getShards() {
+        return IntStream.range(0, shardCount)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    public int shardOf(final int roomId) {
+        return Math.floorMod(roomId, shardCount);
+    }
+
+    public int selectShard(final String roomName) {
+        final int shard = roomShardStrategy.select(roomName, shardCount);
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalStateException("샤드 번호가 올바르지 않습니다.");
+        }
+        return shard;
+    }
+
+    public <T> T call(final int shard, final Supplier<T> supplier) {
+        return ShardContext.call(shard, supplier);
+    }
+
+    public <T> T callForRoom(final int roomId, final Supplier<T> supplier) {
+        return call(shardOf(roomId), supplier);
+    }
+
+    public void runForRoom(final int roomId, final Runnable runnable) {
+        callForRoom(roomId, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public <T> List<T> queryEachShard(final Supplier<T> supplier) {
+        final List<T> results = new ArrayList<>(shardCount);
+        if (shardCount == 1) {
+            results.add(call(0, supplier));
+            return results;
+        }
+        for (int shard = 0; shard < shardCount; shard++) {
+            final int targetShard = shard;
+            results.add(shardReadTransactionTemplate.execute(status -> call(targetShard, supplier)));
+        }
+        return results;
+    }
+
+    public <T> List<T> queryEachShardForRooms(final List<Integer> roomIds,
+                                              final Function<List<Integer>, T> query) {
+        final Map<Integer, List<Integer>> roomIdsByShard = roomIds.stream()
+                .distinct()
+                .collect(Collectors.groupingBy(this::shardOf, TreeMap::new, Collectors.toList()));
+        final List<T> results = new ArrayList<>(roomIdsByShard.size());
+        if (shardCount == 1) {
+            roomIdsByShard.forEach((shard, shardRoomIds) -> results.add(call(shard, () -> query.apply(shardRoomIds))));
+            return results;
+        }
+        roomIdsByShard.forEach((shard, shardRoomIds) -> results.add(shardReadTransactionTemplate.execute(
+                status -> call(shard, () -> query.apply(shardRoomIds)))));
+        return results;
+    }
+}
@@ -0,0 +1,5 @@
+package chess.dao;
+
+public interface RoomShardStrategy {
+    int select(String roomName, int shardCount);
+}
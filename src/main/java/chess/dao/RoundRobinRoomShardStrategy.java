@@ -0,0 +1,13 @@
+package chess.dao;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RoundRobinRoomShardStrategy implements RoomShardStrategy {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public int select(final String roomName, final int shardCount) {
+        return Math.floorMod(counter.getAndIncrement(), shardCount);
+    }
+}
@@ -0,0 +1,57 @@
+package chess.dao;
+
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+    private static final Object TRANSACTION_SHARD_KEY = new Object();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        final Integer shard = CURRENT_SHARD.get();
+        if (shard == null) {
+            return 0;
+        }
+        return shard;
+    }
+
+    public static <T> T call(final int shard, final Supplier<T> supplier) {
+        bindToTransaction(shard);
+        final Integer previousShard = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return supplier.get();
+        } finally {
+            if (previousShard == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previousShard);
+            }
+        }
+    }
+
+    private static void bindToTransaction(final int shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        final Integer boundShard = (Integer) TransactionSynchronizationManager.getResource(TRANSACTION_SHARD_KEY);
+        if (boundShard == null) {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_SHARD_KEY, shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_SHARD_KEY);
+                }
+            });
+            return;
+        }
+        if (boundShard != shard) {
+            throw new IllegalStateException("하나의 트랜잭션에서 여러 샤드에 접근할 수 없습니다.");
+        }
+    }
+}
@@ -64,4 +64,8 @@ public class ChessGame {
     public ChessBoard getChessBoard() {
         return chessBoard;
     }
+
+    public ChessGame copy() {
+        return new ChessGame(chessBoard.copy(), gameStatus);
+    }
 }
@@ -4,12 +4,15 @@ import chess.domain.Score;
 import chess.domain.chesspiece.ChessPiece;
 import chess.domain.chesspiece.Color;
 import chess.domain.position.Position;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public class ChessBoard {
 
-    private final Map<Position, ChessPiece> pieceByPosition;
+    private Map<Position, ChessPiece> pieceByPosition;
+    private Supplier<Map<Position, ChessPiece>> pieceLoader;
     private Color currentTurnColor;
 
     public ChessBoard(final Map<Position, ChessPiece> pieceByPosition) {
@@ -22,8 +25,25 @@ public class ChessBoard {
         this.currentTurnColor = currentTurnColor;
     }
 
+    public ChessBoard(final Supplier<Map<Position, ChessPiece>> pieceLoader, final Color currentTurnColor) {
+        this.pieceLoader = pieceLoader;
+        this.currentTurnColor = currentTurnColor;
+    }
+
+    private synchronized Map<Position, ChessPiece> pieceByPosition() {
+        if (pieceByPosition == null) {
+            pieceByPosition = pieceLoader.get();
+            pieceLoader = null;
+        }
+        return pieceByPosition;
+    }
+
+    public synchronized boolean isLoaded() {
+        return pieceByPosition != null;
+    }
+
     public ChessPiece findPiece(final Position position) {
-        return pieceByPosition.get(position);
+        return pieceByPosition().get(position);
     }
 
     public void move(final Position from, final Position to) {
@@ -55,13 +75,13 @@ public class ChessBoard {
     }
 
     private void movePiece(final Position from, final Position to) {
-        final ChessPiece movablePiece = pieceByPosition.remove(from);
-        pieceByPosition.put(to, movablePiece);
+        final ChessPiece movablePiece = pieceByPosition().remove(from);
+        pieceByPosition().put(to, movablePiece);
         currentTurnColor = currentTurnColor.toOpposite();
     }
 
     public boolean isKingDie() {
-        final long kingCount = pieceByPosition.values()
+        final long kingCount = pieceByPosition().values()
                 .stream()
                 .filter(ChessPiece::isKing)
                 .count();
@@ -69,14 +89,21 @@ public class ChessBoard {
     }
 
     public Map<Position, ChessPiece> findAllPiece() {
-        return pieceByPosition;
+        return pieceByPosition();
     }
 
     public Score calculateScore() {
-        return new Score(pieceByPosition);
+        return new Score(pieceByPosition());
     }
 
     public Color getCurrentTurnColor() {
         return currentTurnColor;
     }
+
+    public synchronized ChessBoard copy() {
+        if (pieceLoader != null) {
+            return new ChessBoard(() -> new HashMap<>(pieceByPosition()), currentTurnColor);
+        }
+        return new ChessBoard(new HashMap<>(pieceByPosition), currentTurnColor);
+    }
 }
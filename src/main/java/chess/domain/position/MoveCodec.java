@@ -0,0 +1,51 @@
+package chess.domain.position;
+
+public class MoveCodec {
+
+    public static final int MOVE_SIZE = 2;
+
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_COUNT = 1 << SQUARE_BITS;
+    private static final int SQUARE_MASK = SQUARE_COUNT - 1;
+    private static final int CODE_MASK = (1 << SQUARE_BITS * 2) - 1;
+    private static final int BYTE_BITS = 8;
+    private static final int BYTE_MASK = 0xff;
+
+    private MoveCodec() {
+    }
+
+    public static int encode(final int fromIndex, final int toIndex) {
+        return validateSquare(fromIndex) << SQUARE_BITS | validateSquare(toIndex);
+    }
+
+    private static int validateSquare(final int index) {
+        if (index < 0 || index >= SQUARE_COUNT) {
+            throw new IllegalArgumentException("유효하지 않은 위치입니다.");
+        }
+        return index;
+    }
+
+    public static int fromIndex(final int code) {
+        return code >>> SQUARE_BITS & SQUARE_MASK;
+    }
+
+    public static int toIndex(final int code) {
+        return code & SQUARE_MASK;
+    }
+
+    public static void write(final byte[] bytes, final int offset, final int code) {
+        if ((code & ~CODE_MASK) != 0) {
+            throw new IllegalArgumentException("유효하지 않은 수 코드입니다.");
+        }
+        bytes[offset] = (byte) (code >>> BYTE_BITS);
+        bytes[offset + 1] = (byte) code;
+    }
+
+    public static int read(final byte[] bytes, final int offset) {
+        final int code = (bytes[offset] & BYTE_MASK) << BYTE_BITS | bytes[offset + 1] & BYTE_MASK;
+        if ((code & ~CODE_MASK) != 0) {
+            throw new IllegalArgumentException("유효하지 않은 기보 데이터입니다.");
+        }
+        return code;
+    }
+}
@@ -0,0 +1,65 @@
+package chess.domain.position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class PackedMoveHistory {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private byte[] moves;
+    private int plyCount;
+
+    private PackedMoveHistory(final byte[] moves, final int plyCount) {
+        this.moves = moves;
+        this.plyCount = plyCount;
+    }
+
+    public static PackedMoveHistory empty() {
+        return new PackedMoveHistory(new byte[0], 0);
+    }
+
+    public static PackedMoveHistory of(final byte[] moves) {
+        if (moves.length % MoveCodec.MOVE_SIZE != 0) {
+            throw new IllegalArgumentException("유효하지 않은 기보 데이터입니다.");
+        }
+        return new PackedMoveHistory(moves, moves.length / MoveCodec.MOVE_SIZE);
+    }
+
+    public void append(final Position from, final Position to) {
+        final int code = MoveCodec.encode(from.toIndex(), to.toIndex());
+        final int length = plyCount * MoveCodec.MOVE_SIZE;
+        if (moves.length < length + MoveCodec.MOVE_SIZE) {
+            moves = Arrays.copyOf(moves, Math.max(INITIAL_CAPACITY, moves.length * 2));
+        }
+        MoveCodec.write(moves, length, code);
+        plyCount++;
+    }
+
+    public int size() {
+        return plyCount;
+    }
+
+    public int codeAt(final int ply) {
+        if (ply < 0 || ply >= plyCount) {
+            throw new IllegalArgumentException("유효하지 않은 수 번호입니다.");
+        }
+        return MoveCodec.read(moves, ply * MoveCodec.MOVE_SIZE);
+    }
+
+    public List<Integer> codesFrom(final int fromPly) {
+        if (fromPly < 0 || fromPly > plyCount) {
+            throw new IllegalArgumentException("유효하지 않은 수 번호입니다.");
+        }
+        final List<Integer> codes = new ArrayList<>(plyCount - fromPly);
+        for (int ply = fromPly; ply < plyCount; ply++) {
+            codes.add(MoveCodec.read(moves, ply * MoveCodec.MOVE_SIZE));
+        }
+        return codes;
+    }
+
+    public byte[] toMoveBytes() {
+        return Arrays.copyOf(moves, plyCount * MoveCodec.MOVE_SIZE);
+    }
+}
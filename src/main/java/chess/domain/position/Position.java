@@ -7,7 +7,9 @@ import java.util.stream.Collectors;
 
 public class Position {
 
+    private static final int FILE_COUNT = File.values().length;
     private static final Map<String, Position> cache;
+    private static final Position[] cacheByIndex;
 
     static {
         cache = Arrays.stream(File.values())
@@ -18,6 +20,8 @@ public class Position {
                 .collect(Collectors.toMap(
                         position -> position.file.value() + position.rank.value(),
                         Function.identity()));
+        cacheByIndex = new Position[cache.size()];
+        cache.values().forEach(position -> cacheByIndex[position.toIndex()] = position);
     }
 
     private final File file;
@@ -40,6 +44,17 @@ public class Position {
         return cache.get(key);
     }
 
+    public static Position fromIndex(final int index) {
+        if (index < 0 || index >= cacheByIndex.length) {
+            throw new IllegalArgumentException("유효하지 않은 위치입니다.");
+        }
+        return cacheByIndex[index];
+    }
+
+    public int toIndex() {
+        return rank.ordinal() * FILE_COUNT + file.ordinal();
+    }
+
     public int rankDistance(final Position target) {
         return rank.calculateDistance(target.rank);
     }
@@ -10,6 +10,7 @@ public class Room {
     private final RoomName name;
     private final Password password;
     private final ChessGame chessGame;
+    private int version;
 
     public Room(final String name, final String password, final ChessGame chessGame) {
         this.name = new RoomName(name);
@@ -24,9 +25,25 @@ public class Room {
     }
 
     public Room(final RoomName name, final Password password, final ChessGame chessGame) {
+        this(name, password, chessGame, 0);
+    }
+
+    public Room(final RoomName name, final Password password, final ChessGame chessGame, final int version) {
         this.name = name;
         this.password = password;
         this.chessGame = chessGame;
+        this.version = version;
+    }
+
+    public void increaseVersion() {
+        increaseVersion(1);
+    }
+
+    public void increaseVersion(final int amount) {
+        if (amount < 1) {
+            throw new IllegalArgumentException("버전은 1 이상 증가해야 합니다.");
+        }
+        version += amount;
     }
 
     public void startGame() {
@@ -65,4 +82,12 @@ public class Room {
     public ChessGame getChessGame() {
         return chessGame;
     }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public Room copy() {
+        return new Room(name, password, chessGame.copy(), version);
+    }
 }
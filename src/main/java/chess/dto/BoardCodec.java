@@ -0,0 +1,47 @@
+package chess.dto;
+
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.position.Position;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+public class BoardCodec {
+
+    private static final int BYTES_PER_PIECE = 2;
+
+    private BoardCodec() {
+    }
+
+    public static byte[] encode(final Map<Position, ChessPiece> pieceByPosition) {
+        final List<Entry<Position, ChessPiece>> entries = pieceByPosition.entrySet()
+                .stream()
+                .sorted(Comparator.comparingInt(entry -> entry.getKey().toIndex()))
+                .collect(Collectors.toList());
+
+        final byte[] bytes = new byte[entries.size() * BYTES_PER_PIECE];
+        int offset = 0;
+        for (final Entry<Position, ChessPiece> entry : entries) {
+            bytes[offset++] = (byte) entry.getKey().toIndex();
+            bytes[offset++] = (byte) ChessPieceMapper.toCode(entry.getValue());
+        }
+        return bytes;
+    }
+
+    public static Map<Position, ChessPiece> decode(final byte[] bytes) {
+        if (bytes.length % BYTES_PER_PIECE != 0) {
+            throw new IllegalArgumentException("유효하지 않은 체스판 데이터입니다.");
+        }
+        final Map<Position, ChessPiece> pieceByPosition = new HashMap<>();
+        for (int offset = 0; offset < bytes.length; offset += BYTES_PER_PIECE) {
+            pieceByPosition.put(
+                    Position.fromIndex(bytes[offset]),
+                    ChessPieceMapper.toChessPiece(bytes[offset + 1])
+            );
+        }
+        return pieceByPosition;
+    }
+}
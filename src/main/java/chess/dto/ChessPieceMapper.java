@@ -13,19 +13,27 @@ import java.util.function.Function;
 
 public enum ChessPieceMapper {
 
-    KING("king", King::from),
-    QUEEN("queen", Queen::from),
-    BISHOP("bishop", Bishop::from),
-    ROOK("rook", Rook::from),
-    KNIGHT("knight", Knight::from),
-    PAWN("pawn", Pawn::from),
+    KING("king", 1, 'k', King::from),
+    QUEEN("queen", 2, 'q', Queen::from),
+    BISHOP("bishop", 3, 'b', Bishop::from),
+    ROOK("rook", 4, 'r', Rook::from),
+    KNIGHT("knight", 5, 'n', Knight::from),
+    PAWN("pawn", 6, 'p', Pawn::from),
     ;
 
+    private static final int COLOR_BIT = 0x08;
+    private static final int TYPE_MASK = 0x07;
+
     private final String pieceType;
+    private final int code;
+    private final char fenSymbol;
     private final Function<Color, ChessPiece> toChessPiece;
 
-    ChessPieceMapper(final String pieceType, final Function<Color, ChessPiece> toChessPiece) {
+    ChessPieceMapper(final String pieceType, final int code, final char fenSymbol,
+                     final Function<Color, ChessPiece> toChessPiece) {
         this.pieceType = pieceType;
+        this.code = code;
+        this.fenSymbol = fenSymbol;
         this.toChessPiece = toChessPiece;
     }
 
@@ -38,10 +46,47 @@ public enum ChessPieceMapper {
     }
 
     public static String toPieceType(final ChessPiece chessPiece) {
+        return from(chessPiece).pieceType;
+    }
+
+    public static ChessPiece toChessPiece(final int code) {
+        final Color color = (code & COLOR_BIT) == 0 ? Color.WHITE : Color.BLACK;
+        return Arrays.stream(values())
+                .filter(it -> it.code == (code & TYPE_MASK))
+                .map(it -> it.toChessPiece.apply(color))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("기물을 찾을 수 없습니다."));
+    }
+
+    public static int toCode(final ChessPiece chessPiece) {
+        final int code = from(chessPiece).code;
+        if (chessPiece.color().isBlack()) {
+            return code | COLOR_BIT;
+        }
+        return code;
+    }
+
+    public static char toFenSymbol(final ChessPiece chessPiece) {
+        final char fenSymbol = from(chessPiece).fenSymbol;
+        if (chessPiece.color().isBlack()) {
+            return fenSymbol;
+        }
+        return Character.toUpperCase(fenSymbol);
+    }
+
+    public static ChessPiece toChessPiece(final char fenSymbol) {
+        final Color color = Character.isUpperCase(fenSymbol) ? Color.WHITE : Color.BLACK;
+        return Arrays.stream(values())
+                .filter(it -> it.fenSymbol == Character.toLowerCase(fenSymbol))
+                .map(it -> it.toChessPiece.apply(color))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("기물을 찾을 수 없습니다."));
+    }
+
+    private static ChessPieceMapper from(final ChessPiece chessPiece) {
         return Arrays.stream(values())
                 .filter(it -> it.toChessPiece.apply(chessPiece.color()).equals(chessPiece))
                 .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 기물입니다."))
-                .pieceType;
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 기물입니다."));
     }
 }
@@ -0,0 +1,29 @@
+package chess.dto;
+
+import java.util.Arrays;
+
+public enum ExportFormat {
+
+    NDJSON("ndjson", "application/x-ndjson"),
+    EPD("epd", "application/x-chess-epd"),
+    ;
+
+    private final String value;
+    private final String contentType;
+
+    ExportFormat(final String value, final String contentType) {
+        this.value = value;
+        this.contentType = contentType;
+    }
+
+    public static ExportFormat from(final String value) {
+        return Arrays.stream(values())
+                .filter(it -> it.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 내보내기 형식입니다."));
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
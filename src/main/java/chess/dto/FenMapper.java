@@ -0,0 +1,65 @@
+package chess.dto;
+
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.chesspiece.Color;
+import chess.domain.position.Position;
+import java.util.Map;
+
+public class FenMapper {
+
+    private static final int BOARD_SIZE = 8;
+    private static final char RANK_SEPARATOR = '/';
+    private static final String FEN_SUFFIX = " - - 0 1";
+
+    private FenMapper() {
+    }
+
+    public static String toFen(final Map<Position, ChessPiece> pieceByPosition, final Color currentTurn) {
+        final StringBuilder fen = new StringBuilder(BOARD_SIZE * BOARD_SIZE + FEN_SUFFIX.length() + 2);
+        appendPlacement(fen, pieceByPosition);
+        fen.append(' ').append(toActiveColor(currentTurn));
+        return fen.append(FEN_SUFFIX).toString();
+    }
+
+    public static String toPlacement(final Map<Position, ChessPiece> pieceByPosition) {
+        final StringBuilder placement = new StringBuilder(BOARD_SIZE * BOARD_SIZE);
+        appendPlacement(placement, pieceByPosition);
+        return placement.toString();
+    }
+
+    private static void appendPlacement(final StringBuilder fen, final Map<Position, ChessPiece> pieceByPosition) {
+        for (int rank = BOARD_SIZE - 1; rank >= 0; rank--) {
+            appendRank(fen, pieceByPosition, rank);
+            if (rank > 0) {
+                fen.append(RANK_SEPARATOR);
+            }
+        }
+    }
+
+    private static void appendRank(final StringBuilder fen, final Map<Position, ChessPiece> pieceByPosition,
+                                   final int rank) {
+        int emptyCount = 0;
+        for (int file = 0; file < BOARD_SIZE; file++) {
+            final ChessPiece chessPiece = pieceByPosition.get(Position.fromIndex(rank * BOARD_SIZE + file));
+            if (chessPiece == null) {
+                emptyCount++;
+                continue;
+            }
+            if (emptyCount > 0) {
+                fen.append(emptyCount);
+                emptyCount = 0;
+            }
+            fen.append(ChessPieceMapper.toFenSymbol(chessPiece));
+        }
+        if (emptyCount > 0) {
+            fen.append(emptyCount);
+        }
+    }
+
+    private static char toActiveColor(final Color currentTurn) {
+        if (currentTurn.isBlack()) {
+            return 'b';
+        }
+        return 'w';
+    }
+}
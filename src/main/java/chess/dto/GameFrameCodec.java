@@ -0,0 +1,90 @@
+package chess.dto;
+
+import chess.domain.GameStatus;
+import chess.domain.chesspiece.Color;
+import chess.domain.position.Position;
+import java.nio.ByteBuffer;
+
+public class GameFrameCodec {
+
+    public static final int MOVE_FRAME_SIZE = Integer.BYTES + 2;
+
+    public static final byte RESULT_OK = 0;
+    public static final byte RESULT_INVALID_MOVE = 1;
+    public static final byte RESULT_CONFLICT = 2;
+    public static final byte RESULT_NOT_FOUND = 3;
+    public static final byte RESULT_MALFORMED = 4;
+    public static final byte RESULT_SERVER_ERROR = 5;
+    public static final byte RESULT_RATE_LIMITED = 6;
+
+    private static final byte RESULT_FRAME = 1;
+    private static final byte MOVED_FRAME = 2;
+    private static final byte STATUS_FRAME = 3;
+
+    private GameFrameCodec() {
+    }
+
+    public static MoveFrame decodeMove(final ByteBuffer payload) {
+        if (payload.remaining() != MOVE_FRAME_SIZE) {
+            throw new IllegalArgumentException("이동 프레임의 길이가 올바르지 않습니다.");
+        }
+        final int sequence = payload.getInt();
+        final Position from = Position.fromIndex(Byte.toUnsignedInt(payload.get()));
+        final Position to = Position.fromIndex(Byte.toUnsignedInt(payload.get()));
+        return new MoveFrame(sequence, from, to);
+    }
+
+    public static byte[] encodeResult(final int sequence, final byte resultCode) {
+        return ByteBuffer.allocate(1 + Integer.BYTES + 1)
+                .put(RESULT_FRAME)
+                .putInt(sequence)
+                .put(resultCode)
+                .array();
+    }
+
+    public static byte[] encodeMoved(final int version, final Position from, final Position to,
+                                     final GameStatus gameStatus, final Color currentTurn) {
+        return ByteBuffer.allocate(1 + Integer.BYTES + 4)
+                .put(MOVED_FRAME)
+                .putInt(version)
+                .put((byte) from.toIndex())
+                .put((byte) to.toIndex())
+                .put((byte) gameStatus.ordinal())
+                .put((byte) currentTurn.ordinal())
+                .array();
+    }
+
+    public static byte[] encodeStatus(final int version, final GameStatus gameStatus, final Color currentTurn) {
+        return ByteBuffer.allocate(1 + Integer.BYTES + 2)
+                .put(STATUS_FRAME)
+                .putInt(version)
+                .put((byte) gameStatus.ordinal())
+                .put((byte) currentTurn.ordinal())
+                .array();
+    }
+
+    public static class MoveFrame {
+
+        private final int sequence;
+        private final Position from;
+        private final Position to;
+
+        private MoveFrame(final int sequence, final Position from, final Position to) {
+            this.sequence = sequence;
+            this.from = from;
+            this.to = to;
+        }
+
+        public int getSequence() {
+            return sequence;
+        }
+
+        public Position getFrom() {
+            return from;
+        }
+
+        public Position getTo() {
+            return to;
+        }
+    }
+}
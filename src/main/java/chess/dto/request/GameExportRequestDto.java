@@ -0,0 +1,42 @@
+package chess.dto.request;
+
+import chess.domain.GameStatus;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class GameExportRequestDto {
+
+    private final List<GameStatus> gameStatuses;
+    private final Integer fromRoomId;
+    private final Integer toRoomId;
+
+    private GameExportRequestDto(final List<GameStatus> gameStatuses, final Integer fromRoomId,
+                                 final Integer toRoomId) {
+        this.gameStatuses = gameStatuses;
+        this.fromRoomId = fromRoomId;
+        this.toRoomId = toRoomId;
+    }
+
+    public static GameExportRequestDto of(final List<String> gameStatuses, final Integer fromRoomId,
+                                          final Integer toRoomId) {
+        if (fromRoomId != null && toRoomId != null && fromRoomId > toRoomId) {
+            throw new IllegalArgumentException("방 번호 범위가 올바르지 않습니다.");
+        }
+        final List<GameStatus> statuses = gameStatuses.stream()
+                .map(GameStatus::from)
+                .collect(Collectors.toList());
+        return new GameExportRequestDto(statuses, fromRoomId, toRoomId);
+    }
+
+    public List<GameStatus> getGameStatuses() {
+        return gameStatuses;
+    }
+
+    public Integer getFromRoomId() {
+        return fromRoomId;
+    }
+
+    public Integer getToRoomId() {
+        return toRoomId;
+    }
+}
@@ -0,0 +1,19 @@
+package chess.dto.request;
+
+import java.util.List;
+
+public class MoveBatchRequestDto {
+
+    private List<MoveRequestDto> moves;
+
+    protected MoveBatchRequestDto() {
+    }
+
+    public MoveBatchRequestDto(final List<MoveRequestDto> moves) {
+        this.moves = moves;
+    }
+
+    public List<MoveRequestDto> getMoves() {
+        return moves;
+    }
+}
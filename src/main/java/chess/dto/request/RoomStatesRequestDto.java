@@ -0,0 +1,19 @@
+package chess.dto.request;
+
+import java.util.List;
+
+public class RoomStatesRequestDto {
+
+    private List<Integer> roomIds;
+
+    protected RoomStatesRequestDto() {
+    }
+
+    public RoomStatesRequestDto(final List<Integer> roomIds) {
+        this.roomIds = roomIds;
+    }
+
+    public List<Integer> getRoomIds() {
+        return roomIds;
+    }
+}
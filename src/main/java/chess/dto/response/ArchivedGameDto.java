@@ -0,0 +1,60 @@
+package chess.dto.response;
+
+import chess.domain.GameStatus;
+import chess.domain.Score;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.position.Position;
+import chess.dto.ChessPieceMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ArchivedGameDto {
+
+    private final int roomId;
+    private final String roomName;
+    private final GameStatus gameStatus;
+    private final List<ChessPieceDto> pieces;
+    private final Score score;
+
+    private ArchivedGameDto(final int roomId, final String roomName, final GameStatus gameStatus,
+                            final List<ChessPieceDto> pieces, final Score score) {
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.gameStatus = gameStatus;
+        this.pieces = pieces;
+        this.score = score;
+    }
+
+    public static ArchivedGameDto of(final int roomId, final String roomName, final GameStatus gameStatus,
+                                     final Map<Position, ChessPiece> pieceByPosition) {
+        final List<ChessPieceDto> pieces = pieceByPosition.entrySet()
+                .stream()
+                .map(it -> ChessPieceDto.of(
+                        it.getKey(),
+                        ChessPieceMapper.toPieceType(it.getValue()),
+                        it.getValue().color()))
+                .collect(Collectors.toList());
+        return new ArchivedGameDto(roomId, roomName, gameStatus, pieces, new Score(pieceByPosition));
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public GameStatus getGameStatus() {
+        return gameStatus;
+    }
+
+    public List<ChessPieceDto> getPieces() {
+        return pieces;
+    }
+
+    public Score getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,119 @@
+package chess.dto.response;
+
+import chess.domain.GameStatus;
+import chess.domain.Score;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.chesspiece.Color;
+import chess.domain.position.Position;
+import chess.dto.ChessPieceMapper;
+import chess.dto.FenMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ExportedGameDto {
+
+    private static final String WHITE_WIN = "1-0";
+    private static final String BLACK_WIN = "0-1";
+    private static final String DRAW = "1/2-1/2";
+    private static final String UNKNOWN = "*";
+
+    private final int roomId;
+    private final String roomName;
+    private final String gameStatus;
+    private final String currentTurn;
+    private final String result;
+    private final String fen;
+    private final List<ChessPieceDto> pieces;
+
+    private ExportedGameDto(final int roomId, final String roomName, final String gameStatus,
+                            final String currentTurn, final String result, final String fen,
+                            final List<ChessPieceDto> pieces) {
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.gameStatus = gameStatus;
+        this.currentTurn = currentTurn;
+        this.result = result;
+        this.fen = fen;
+        this.pieces = pieces;
+    }
+
+    public static ExportedGameDto of(final int roomId, final String roomName, final GameStatus gameStatus,
+                                     final Color currentTurn, final Map<Position, ChessPiece> pieceByPosition) {
+        final List<ChessPieceDto> pieces = pieceByPosition.entrySet()
+                .stream()
+                .map(it -> ChessPieceDto.of(
+                        it.getKey(),
+                        ChessPieceMapper.toPieceType(it.getValue()),
+                        it.getValue().color()))
+                .collect(Collectors.toList());
+        return new ExportedGameDto(
+                roomId,
+                roomName,
+                gameStatus.getValue(),
+                currentTurn.getValue(),
+                toResult(gameStatus, pieceByPosition),
+                FenMapper.toFen(pieceByPosition, currentTurn),
+                pieces
+        );
+    }
+
+    private static String toResult(final GameStatus gameStatus, final Map<Position, ChessPiece> pieceByPosition) {
+        if (gameStatus == GameStatus.KING_DIE) {
+            return toKingDieResult(pieceByPosition);
+        }
+        if (gameStatus == GameStatus.END) {
+            return toScoreResult(new Score(pieceByPosition));
+        }
+        return UNKNOWN;
+    }
+
+    private static String toKingDieResult(final Map<Position, ChessPiece> pieceByPosition) {
+        final boolean whiteKingAlive = pieceByPosition.values()
+                .stream()
+                .anyMatch(it -> it.isKing() && it.isSameColor(Color.WHITE));
+        if (whiteKingAlive) {
+            return WHITE_WIN;
+        }
+        return BLACK_WIN;
+    }
+
+    private static String toScoreResult(final Score score) {
+        final int compared = Double.compare(score.getWhiteScore(), score.getBlackScore());
+        if (compared > 0) {
+            return WHITE_WIN;
+        }
+        if (compared < 0) {
+            return BLACK_WIN;
+        }
+        return DRAW;
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public String getGameStatus() {
+        return gameStatus;
+    }
+
+    public String getCurrentTurn() {
+        return currentTurn;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public String getFen() {
+        return fen;
+    }
+
+    public List<ChessPieceDto> getPieces() {
+        return pieces;
+    }
+}
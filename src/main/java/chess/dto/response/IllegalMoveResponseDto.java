@@ -0,0 +1,24 @@
+package chess.dto.response;
+
+public class IllegalMoveResponseDto {
+
+    private final int moveIndex;
+    private final String message;
+
+    private IllegalMoveResponseDto(final int moveIndex, final String message) {
+        this.moveIndex = moveIndex;
+        this.message = message;
+    }
+
+    public static IllegalMoveResponseDto of(final int moveIndex, final String message) {
+        return new IllegalMoveResponseDto(moveIndex, message);
+    }
+
+    public int getMoveIndex() {
+        return moveIndex;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,32 @@
+package chess.dto.response;
+
+import chess.domain.position.Position;
+
+public class MoveDto {
+
+    private final int ply;
+    private final String from;
+    private final String to;
+
+    private MoveDto(final int ply, final String from, final String to) {
+        this.ply = ply;
+        this.from = from;
+        this.to = to;
+    }
+
+    public static MoveDto of(final int ply, final Position from, final Position to) {
+        return new MoveDto(ply, from.getValue(), to.getValue());
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+}
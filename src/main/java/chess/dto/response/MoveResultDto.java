@@ -0,0 +1,86 @@
+package chess.dto.response;
+
+import chess.domain.ChessGame;
+import chess.domain.Score;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.position.Position;
+import chess.dto.ChessPieceMapper;
+
+public class MoveResultDto {
+
+    private final String from;
+    private final String to;
+    private final ChessPieceDto movedPiece;
+    private final ChessPieceDto capturedPiece;
+    private final String currentTurn;
+    private final String gameStatus;
+    private final double whiteScore;
+    private final double blackScore;
+
+    private MoveResultDto(final String from, final String to, final ChessPieceDto movedPiece,
+                          final ChessPieceDto capturedPiece, final String currentTurn, final String gameStatus,
+                          final double whiteScore, final double blackScore) {
+        this.from = from;
+        this.to = to;
+        this.movedPiece = movedPiece;
+        this.capturedPiece = capturedPiece;
+        this.currentTurn = currentTurn;
+        this.gameStatus = gameStatus;
+        this.whiteScore = whiteScore;
+        this.blackScore = blackScore;
+    }
+
+    public static MoveResultDto of(final Position from, final Position to, final ChessPiece capturedPiece,
+                                   final ChessGame chessGame) {
+        final Score score = new Score(chessGame.getChessBoard().findAllPiece());
+        return new MoveResultDto(
+                from.getValue(),
+                to.getValue(),
+                toChessPieceDto(to, chessGame.getChessBoard().findPiece(to)),
+                toChessPieceDto(to, capturedPiece),
+                chessGame.getCurrentTurn().getValue(),
+                chessGame.getGameStatus().getValue(),
+                score.getWhiteScore(),
+                score.getBlackScore()
+        );
+    }
+
+    private static ChessPieceDto toChessPieceDto(final Position position, final ChessPiece chessPiece) {
+        if (chessPiece == null) {
+            return null;
+        }
+        return ChessPieceDto.of(position, ChessPieceMapper.toPieceType(chessPiece), chessPiece.color());
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public ChessPieceDto getMovedPiece() {
+        return movedPiece;
+    }
+
+    public ChessPieceDto getCapturedPiece() {
+        return capturedPiece;
+    }
+
+    public String getCurrentTurn() {
+        return currentTurn;
+    }
+
+    public String getGameStatus() {
+        return gameStatus;
+    }
+
+    public double getWhiteScore() {
+        return whiteScore;
+    }
+
+    public double getBlackScore() {
+        return blackScore;
+    }
+}
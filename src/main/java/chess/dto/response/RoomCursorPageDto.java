@@ -0,0 +1,36 @@
+package chess.dto.response;
+
+import java.util.List;
+
+public class RoomCursorPageDto {
+
+    private final Integer nextCursor;
+    private final int size;
+    private final List<RoomResponseDto> rooms;
+
+    public RoomCursorPageDto(final Integer nextCursor, final int size, final List<RoomResponseDto> rooms) {
+        this.nextCursor = nextCursor;
+        this.size = size;
+        this.rooms = rooms;
+    }
+
+    public static RoomCursorPageDto of(final List<RoomResponseDto> rooms, final int size) {
+        if (rooms.size() <= size) {
+            return new RoomCursorPageDto(null, rooms.size(), rooms);
+        }
+        final List<RoomResponseDto> pageRooms = rooms.subList(0, size);
+        return new RoomCursorPageDto(pageRooms.get(size - 1).getRoomId(), size, List.copyOf(pageRooms));
+    }
+
+    public Integer getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public List<RoomResponseDto> getRooms() {
+        return rooms;
+    }
+}
@@ -0,0 +1,91 @@
+package chess.dto.response;
+
+import chess.domain.Score;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.position.Position;
+import chess.domain.room.Room;
+import chess.dto.ChessPieceMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class RoomStateDto {
+
+    private final int roomId;
+    private final String roomName;
+    private final String gameStatus;
+    private final String currentTurn;
+    private final double whiteScore;
+    private final double blackScore;
+    private final List<ChessPieceDto> pieces;
+    private final int version;
+
+    private RoomStateDto(final int roomId, final String roomName, final String gameStatus, final String currentTurn,
+                         final double whiteScore, final double blackScore, final List<ChessPieceDto> pieces,
+                         final int version) {
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.gameStatus = gameStatus;
+        this.currentTurn = currentTurn;
+        this.whiteScore = whiteScore;
+        this.blackScore = blackScore;
+        this.pieces = pieces;
+        this.version = version;
+    }
+
+    public static RoomStateDto of(final int roomId, final Room room) {
+        final Map<Position, ChessPiece> pieceByPosition = room.getChessGame()
+                .getChessBoard()
+                .findAllPiece();
+        final Score score = new Score(pieceByPosition);
+        final List<ChessPieceDto> pieces = pieceByPosition.entrySet()
+                .stream()
+                .map(it -> ChessPieceDto.of(
+                        it.getKey(),
+                        ChessPieceMapper.toPieceType(it.getValue()),
+                        it.getValue().color()))
+                .collect(Collectors.toList());
+        return new RoomStateDto(
+                roomId,
+                room.getName(),
+                room.getGameStatus().getValue(),
+                room.getCurrentTurn().getValue(),
+                score.getWhiteScore(),
+                score.getBlackScore(),
+                pieces,
+                room.getVersion()
+        );
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public String getGameStatus() {
+        return gameStatus;
+    }
+
+    public String getCurrentTurn() {
+        return currentTurn;
+    }
+
+    public double getWhiteScore() {
+        return whiteScore;
+    }
+
+    public double getBlackScore() {
+        return blackScore;
+    }
+
+    public List<ChessPieceDto> getPieces() {
+        return pieces;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+}
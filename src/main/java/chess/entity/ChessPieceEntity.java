@@ -28,4 +28,8 @@ public class ChessPieceEntity {
     public Position toPosition() {
         return Position.from(position);
     }
+
+    public int getRoomId() {
+        return roomId;
+    }
 }
@@ -0,0 +1,36 @@
+package chess.entity;
+
+import chess.domain.position.PackedMoveHistory;
+
+public class MoveHistoryEntity {
+
+    private final int roomId;
+    private final int plyCount;
+    private final byte[] moves;
+
+    public MoveHistoryEntity(final int roomId, final int plyCount, final byte[] moves) {
+        this.roomId = roomId;
+        this.plyCount = plyCount;
+        this.moves = moves;
+    }
+
+    public static MoveHistoryEntity of(final int roomId, final PackedMoveHistory moveHistory) {
+        return new MoveHistoryEntity(roomId, moveHistory.size(), moveHistory.toMoveBytes());
+    }
+
+    public PackedMoveHistory toMoveHistory() {
+        return PackedMoveHistory.of(moves);
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public int getPlyCount() {
+        return plyCount;
+    }
+
+    public byte[] getMoves() {
+        return moves;
+    }
+}
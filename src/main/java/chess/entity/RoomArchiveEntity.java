@@ -0,0 +1,115 @@
+package chess.entity;
+
+import chess.domain.GameStatus;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.position.Position;
+import chess.dto.BoardCodec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class RoomArchiveEntity {
+
+    private static final int BUFFER_SIZE = 256;
+
+    private final int roomId;
+    private final String name;
+    private final String gameStatus;
+    private final String currentTurn;
+    private final byte[] board;
+
+    public RoomArchiveEntity(final int roomId, final String name, final String gameStatus, final String currentTurn,
+                             final byte[] board) {
+        this.roomId = roomId;
+        this.name = name;
+        this.gameStatus = gameStatus;
+        this.currentTurn = currentTurn;
+        this.board = board;
+    }
+
+    public static RoomArchiveEntity of(final RoomEntity roomEntity, final List<ChessPieceEntity> chessPieceEntities) {
+        final Map<Position, ChessPiece> pieceByPosition = chessPieceEntities.stream()
+                .collect(Collectors.toMap(
+                        ChessPieceEntity::toPosition,
+                        ChessPieceEntity::toChessPiece
+                ));
+        return new RoomArchiveEntity(
+                roomEntity.getRoomId(),
+                roomEntity.getName(),
+                roomEntity.getGameStatus(),
+                roomEntity.getCurrentTurn(),
+                compress(BoardCodec.encode(pieceByPosition))
+        );
+    }
+
+    private static byte[] compress(final byte[] bytes) {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(final byte[] bytes) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                final int length = inflater.inflate(buffer);
+                if (length == 0 && inflater.needsInput()) {
+                    throw new UncheckedIOException(new IOException("보관된 체스판 데이터가 손상되었습니다."));
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException(new IOException("보관된 체스판 데이터가 손상되었습니다.", e));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    public Map<Position, ChessPiece> toPieceByPosition() {
+        return BoardCodec.decode(decompress(board));
+    }
+
+    public GameStatus toGameStatus() {
+        return GameStatus.from(gameStatus);
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getGameStatus() {
+        return gameStatus;
+    }
+
+    public String getCurrentTurn() {
+        return currentTurn;
+    }
+
+    public byte[] getBoard() {
+        return board;
+    }
+}
@@ -12,16 +12,18 @@ public class RoomEntity {
     private final String currentTurn;
     private final String password;
     private final boolean isDelete;
+    private final int version;
     private int roomId;
 
     public RoomEntity(final int roomId, final String name, final String gameStatus, final String currentTurn,
-                      final String password, final boolean isDelete) {
+                      final String password, final boolean isDelete, final int version) {
         this.roomId = roomId;
         this.name = name;
         this.gameStatus = gameStatus;
         this.currentTurn = currentTurn;
         this.password = password;
         this.isDelete = isDelete;
+        this.version = version;
     }
 
     public RoomEntity(final String name, final GameStatus gameStatus, final Color currentTurn, final String password) {
@@ -30,6 +32,7 @@ public class RoomEntity {
         this.currentTurn = currentTurn.getValue();
         this.password = password;
         this.isDelete = false;
+        this.version = 0;
     }
 
     public RoomName toRoomName() {
@@ -71,4 +74,8 @@ public class RoomEntity {
     public boolean isDelete() {
         return isDelete;
     }
+
+    public int getVersion() {
+        return version;
+    }
 }
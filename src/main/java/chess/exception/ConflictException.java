@@ -0,0 +1,20 @@
+package chess.exception;
+
+public class ConflictException extends RuntimeException {
+
+    public ConflictException() {
+        super();
+    }
+
+    public ConflictException(final String message) {
+        super(message);
+    }
+
+    public ConflictException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+
+    public ConflictException(final Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,20 @@
+package chess.exception;
+
+public class IllegalMoveException extends RuntimeException {
+
+    private final int moveIndex;
+
+    public IllegalMoveException(final int moveIndex, final String message) {
+        super(message);
+        this.moveIndex = moveIndex;
+    }
+
+    public IllegalMoveException(final int moveIndex, final String message, final Throwable cause) {
+        super(message, cause);
+        this.moveIndex = moveIndex;
+    }
+
+    public int getMoveIndex() {
+        return moveIndex;
+    }
+}
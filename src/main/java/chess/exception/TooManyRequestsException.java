@@ -0,0 +1,19 @@
+package chess.exception;
+
+import java.util.concurrent.TimeUnit;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    private static final String MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final long waitNanos;
+
+    public TooManyRequestsException(final long waitNanos) {
+        super(MESSAGE);
+        this.waitNanos = waitNanos;
+    }
+
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
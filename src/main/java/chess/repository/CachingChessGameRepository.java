@@ -0,0 +1,45 @@
+package chess.repository;
+
+import chess.domain.ChessGame;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.position.Position;
+import java.util.Map;
+
+public class CachingChessGameRepository implements ChessGameRepository {
+
+    private final ChessGameRepository chessGameRepository;
+    private final RoomRepository roomRepository;
+    private final RoomCache roomCache;
+
+    public CachingChessGameRepository(final ChessGameRepository chessGameRepository,
+                                      final RoomRepository roomRepository,
+                                      final RoomCache roomCache) {
+        this.chessGameRepository = chessGameRepository;
+        this.roomRepository = roomRepository;
+        this.roomCache = roomCache;
+    }
+
+    @Override
+    public ChessGame get(final int roomId) {
+        return roomRepository.get(roomId).getChessGame();
+    }
+
+    @Override
+    public void update(final int roomId, final Position from, final Position to) {
+        chessGameRepository.update(roomId, from, to);
+        roomCache.evict(roomId);
+    }
+
+    @Override
+    public void updateBoard(final int roomId, final Map<Position, ChessPiece> previousPieceByPosition,
+                            final ChessGame chessGame) {
+        chessGameRepository.updateBoard(roomId, previousPieceByPosition, chessGame);
+        roomCache.evict(roomId);
+    }
+
+    @Override
+    public void add(final int roomId, final ChessGame chessGame) {
+        chessGameRepository.add(roomId, chessGame);
+        roomCache.evict(roomId);
+    }
+}
@@ -0,0 +1,90 @@
+package chess.repository;
+
+import chess.domain.room.Room;
+import chess.dto.response.RoomCursorPageDto;
+import chess.dto.response.RoomPageDto;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class CachingRoomRepository implements RoomRepository {
+
+    private final RoomRepository roomRepository;
+    private final RoomCache roomCache;
+
+    public CachingRoomRepository(final RoomRepository roomRepository, final RoomCache roomCache) {
+        this.roomRepository = roomRepository;
+        this.roomCache = roomCache;
+    }
+
+    @Override
+    public Room get(final int roomId) {
+        final Optional<Room> cachedRoom = roomCache.find(roomId);
+        if (cachedRoom.isPresent()) {
+            return cachedRoom.get();
+        }
+        final Room room = roomRepository.get(roomId);
+        room.getChessGame().getChessBoard().findAllPiece();
+        roomCache.put(roomId, room);
+        return room;
+    }
+
+    @Override
+    public RoomPageDto getAll(final int page, final int size) {
+        return roomRepository.getAll(page, size);
+    }
+
+    @Override
+    public RoomCursorPageDto getAllAfter(final int afterRoomId, final int size) {
+        return roomRepository.getAllAfter(afterRoomId, size);
+    }
+
+    @Override
+    public Map<Integer, Room> getAllByIds(final List<Integer> roomIds) {
+        final Map<Integer, Room> cachedRoomById = new HashMap<>();
+        final List<Integer> missingRoomIds = new ArrayList<>();
+        for (final int roomId : roomIds) {
+            roomCache.find(roomId).ifPresentOrElse(
+                    room -> cachedRoomById.put(roomId, room),
+                    () -> missingRoomIds.add(roomId));
+        }
+        final Map<Integer, Room> loadedRoomById = roomRepository.getAllByIds(missingRoomIds);
+        loadedRoomById.forEach(roomCache::put);
+
+        final Map<Integer, Room> roomById = new LinkedHashMap<>();
+        for (final int roomId : roomIds) {
+            final Room room = cachedRoomById.getOrDefault(roomId, loadedRoomById.get(roomId));
+            if (room != null) {
+                roomById.put(roomId, room);
+            }
+        }
+        return roomById;
+    }
+
+    @Override
+    public int add(final Room room) {
+        final int roomId = roomRepository.add(room);
+        roomCache.evict(roomId);
+        return roomId;
+    }
+
+    @Override
+    public void update(final int roomId, final Room room, final int versionIncrement) {
+        try {
+            roomRepository.update(roomId, room, versionIncrement);
+        } catch (RuntimeException e) {
+            roomCache.evict(roomId);
+            throw e;
+        }
+        roomCache.put(roomId, room);
+    }
+
+    @Override
+    public void remove(final int roomId) {
+        roomRepository.remove(roomId);
+        roomCache.remove(roomId);
+    }
+}
@@ -0,0 +1,51 @@
+package chess.repository;
+
+import chess.domain.ChessGame;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.position.Position;
+import chess.exception.NotFoundException;
+import java.util.Map;
+
+public class ChessGameRecordRepository implements ChessGameRepository {
+
+    private final RoomRecordStore roomRecordStore;
+
+    public ChessGameRecordRepository(final RoomRecordStore roomRecordStore) {
+        this.roomRecordStore = roomRecordStore;
+    }
+
+    @Override
+    public ChessGame get(final int roomId) {
+        return findRecord(roomId).toRoom().getChessGame();
+    }
+
+    @Override
+    public void update(final int roomId, final Position from, final Position to) {
+        final RoomRecord roomRecord = findRecord(roomId);
+        final Map<Position, ChessPiece> pieceByPosition = roomRecord.toPieceByPosition();
+        final ChessPiece chessPiece = pieceByPosition.remove(from);
+        pieceByPosition.remove(to);
+        if (chessPiece != null) {
+            pieceByPosition.put(to, chessPiece);
+        }
+        roomRecordStore.write(roomRecord.withBoard(pieceByPosition), roomRecord.getVersion());
+    }
+
+    @Override
+    public void updateBoard(final int roomId, final Map<Position, ChessPiece> previousPieceByPosition,
+                            final ChessGame chessGame) {
+        final RoomRecord roomRecord = findRecord(roomId);
+        roomRecordStore.write(roomRecord.withBoard(chessGame.getChessBoard().findAllPiece()), roomRecord.getVersion());
+    }
+
+    @Override
+    public void add(final int roomId, final ChessGame chessGame) {
+        final RoomRecord roomRecord = findRecord(roomId);
+        roomRecordStore.write(roomRecord.withBoard(chessGame.getChessBoard().findAllPiece()), roomRecord.getVersion());
+    }
+
+    private RoomRecord findRecord(final int roomId) {
+        return roomRecordStore.find(roomId)
+                .orElseThrow(() -> new NotFoundException("방이 존재하지 않습니다."));
+    }
+}
@@ -1,12 +1,16 @@
 package chess.repository;
 
 import chess.domain.ChessGame;
+import chess.domain.chesspiece.ChessPiece;
 import chess.domain.position.Position;
+import java.util.Map;
 
 public interface ChessGameRepository {
     ChessGame get(int roomId);
 
     void update(int roomId, Position from, Position to);
 
+    void updateBoard(int roomId, Map<Position, ChessPiece> previousPieceByPosition, ChessGame chessGame);
+
     void add(int roomId, ChessGame chessGame);
 }
@@ -2,6 +2,7 @@ package chess.repository;
 
 import chess.dao.ChessPieceDao;
 import chess.dao.RoomDao;
+import chess.dao.RoomShardRouter;
 import chess.domain.ChessGame;
 import chess.domain.GameStatus;
 import chess.domain.chessboard.ChessBoard;
@@ -10,23 +11,36 @@ import chess.domain.chesspiece.Color;
 import chess.domain.position.Position;
 import chess.entity.ChessPieceEntity;
 import chess.entity.RoomEntity;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@Profile("!embedded")
 public class ChessGameRepositoryImpl implements ChessGameRepository {
 
     private final ChessPieceDao chessPieceDao;
     private final RoomDao roomDao;
+    private final RoomShardRouter roomShardRouter;
 
-    public ChessGameRepositoryImpl(final ChessPieceDao chessPieceDao, final RoomDao roomDao) {
+    public ChessGameRepositoryImpl(final ChessPieceDao chessPieceDao, final RoomDao roomDao,
+                                   final RoomShardRouter roomShardRouter) {
         this.chessPieceDao = chessPieceDao;
         this.roomDao = roomDao;
+        this.roomShardRouter = roomShardRouter;
     }
 
     @Override
     public ChessGame get(final int roomId) {
+        return roomShardRouter.callForRoom(roomId, () -> findChessGame(roomId));
+    }
+
+    private ChessGame findChessGame(final int roomId) {
         final Map<Position, ChessPiece> pieceByPosition = chessPieceDao.findAllEntityByRoomId(roomId)
                 .stream()
                 .collect(Collectors.toMap(
@@ -44,13 +58,43 @@ public class ChessGameRepositoryImpl implements ChessGameRepository {
 
     @Override
     public void update(final int roomId, final Position from, final Position to) {
-        chessPieceDao.deleteByRoomIdAndPosition(roomId, to);
-        chessPieceDao.updateByRoomIdAndPosition(roomId, from, to);
+        roomShardRouter.runForRoom(roomId, () -> {
+            chessPieceDao.deleteByRoomIdAndPosition(roomId, to);
+            chessPieceDao.updateByRoomIdAndPosition(roomId, from, to);
+        });
+    }
+
+    @Override
+    public void updateBoard(final int roomId, final Map<Position, ChessPiece> previousPieceByPosition,
+                            final ChessGame chessGame) {
+        final Map<Position, ChessPiece> pieceByPosition = chessGame.getChessBoard().findAllPiece();
+        final Set<Position> positions = new HashSet<>(previousPieceByPosition.keySet());
+        positions.addAll(pieceByPosition.keySet());
+
+        final Set<Position> vacatedPositions = new HashSet<>();
+        final Map<Position, ChessPiece> placedPieceByPosition = new HashMap<>();
+        for (final Position position : positions) {
+            final ChessPiece previousPiece = previousPieceByPosition.get(position);
+            final ChessPiece chessPiece = pieceByPosition.get(position);
+            if (Objects.equals(previousPiece, chessPiece)) {
+                continue;
+            }
+            if (previousPiece != null) {
+                vacatedPositions.add(position);
+            }
+            if (chessPiece != null) {
+                placedPieceByPosition.put(position, chessPiece);
+            }
+        }
+        roomShardRouter.runForRoom(roomId, () -> {
+            chessPieceDao.deleteAllByRoomIdAndPositions(roomId, vacatedPositions);
+            chessPieceDao.saveAll(roomId, placedPieceByPosition);
+        });
     }
 
     @Override
     public void add(final int roomId, final ChessGame chessGame) {
         final ChessBoard chessBoard = chessGame.getChessBoard();
-        chessPieceDao.saveAll(roomId, chessBoard.findAllPiece());
+        roomShardRouter.runForRoom(roomId, () -> chessPieceDao.saveAll(roomId, chessBoard.findAllPiece()));
     }
 }
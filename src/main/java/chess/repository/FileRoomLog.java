@@ -0,0 +1,583 @@
+package chess.repository;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class FileRoomLog extends RoomRecordStore implements Closeable {
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int MAX_PAYLOAD_SIZE = 64 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Path path;
+    private final boolean fsync;
+    private final long compactionMinBytes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object commitMonitor = new Object();
+    private final List<CommitGroup> unpublishedGroups = new ArrayList<>();
+    private final Map<Integer, RoomRecord> pendingRecordByRoomId = new HashMap<>();
+    private final Map<String, Integer> pendingRoomIdByName = new HashMap<>();
+    private final AtomicLong forceCount = new AtomicLong();
+    private final NavigableMap<Integer, Location> locationByRoomId = new TreeMap<>();
+    private final Map<String, Integer> roomIdByName = new HashMap<>();
+    private FileChannel channel;
+    private long fileSize;
+    private long writtenPosition;
+    private boolean forcing;
+    private long liveBytes;
+    private int lastRoomId;
+
+    private FileRoomLog(final Path path, final boolean fsync, final long compactionMinBytes) {
+        this.path = path;
+        this.fsync = fsync;
+        this.compactionMinBytes = compactionMinBytes;
+    }
+
+    public static FileRoomLog open(final Path path, final boolean fsync, final long compactionMinBytes) {
+        final FileRoomLog fileRoomLog = new FileRoomLog(path, fsync, compactionMinBytes);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            fileRoomLog.channel = openChannel(path);
+            fileRoomLog.rebuild();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return fileRoomLog;
+    }
+
+    private static FileChannel openChannel(final Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private void rebuild() throws IOException {
+        final long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("로그 파일이 너무 커서 읽을 수 없습니다.");
+        }
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        long offset = 0;
+        while (buffer.remaining() >= HEADER_SIZE) {
+            final int payloadLength = buffer.getInt();
+            final int checksum = buffer.getInt();
+            if (payloadLength <= 0 || payloadLength > MAX_PAYLOAD_SIZE || buffer.remaining() < payloadLength) {
+                break;
+            }
+            final byte[] payload = new byte[payloadLength];
+            buffer.get(payload);
+            if (checksum(payload) != checksum) {
+                break;
+            }
+            apply(RoomRecord.decode(payload), offset, HEADER_SIZE + payloadLength);
+            offset += HEADER_SIZE + payloadLength;
+        }
+        if (offset < size) {
+            logger.warn("로그 파일의 손상된 끝부분을 잘라냅니다. path={}, validBytes={}, size={}", path, offset, size);
+            channel.truncate(offset);
+            channel.force(true);
+        }
+        fileSize = offset;
+        writtenPosition = offset;
+    }
+
+    @Override
+    Optional<RoomRecord> findCommitted(final int roomId) {
+        lock.readLock().lock();
+        try {
+            final Location location = locationByRoomId.get(roomId);
+            if (location == null) {
+                return Optional.empty();
+            }
+            return Optional.of(read(location));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    List<RoomRecord> findAll(final int offset, final int limit) {
+        lock.readLock().lock();
+        try {
+            final List<RoomRecord> roomRecords = new ArrayList<>(limit);
+            for (final Location location : locationByRoomId.values()
+                    .stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .collect(Collectors.toList())) {
+                roomRecords.add(read(location));
+            }
+            return roomRecords;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    List<RoomRecord> findAllAfter(final int afterRoomId, final int limit) {
+        lock.readLock().lock();
+        try {
+            final List<RoomRecord> roomRecords = new ArrayList<>();
+            for (final Location location : locationByRoomId.tailMap(afterRoomId, false).values()) {
+                if (roomRecords.size() >= limit) {
+                    break;
+                }
+                roomRecords.add(read(location));
+            }
+            return roomRecords;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    int count() {
+        lock.readLock().lock();
+        try {
+            return locationByRoomId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    boolean existsByName(final String name) {
+        lock.readLock().lock();
+        try {
+            return roomIdByName.containsKey(name);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    int nextRoomId() {
+        lock.writeLock().lock();
+        try {
+            return ++lastRoomId;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    long commit(final Collection<PendingRecord> pendingRecords) {
+        final CommitGroup commitGroup = append(pendingRecords);
+        awaitPublished(commitGroup);
+        return commitGroup.endPosition;
+    }
+
+    private CommitGroup append(final Collection<PendingRecord> pendingRecords) {
+        synchronized (commitMonitor) {
+            check(pendingRecords);
+            final List<Frame> frames = new ArrayList<>(pendingRecords.size());
+            long position = writtenPosition;
+            for (final PendingRecord pendingRecord : pendingRecords) {
+                final RoomRecord roomRecord = pendingRecord.getRoomRecord();
+                final ByteBuffer frame = toFrame(roomRecord.encode());
+                final int frameLength = frame.remaining();
+                frames.add(new Frame(roomRecord, position, frameLength, frame));
+                position += frameLength;
+            }
+            final CommitGroup commitGroup = new CommitGroup(frames, position);
+            unpublishedGroups.add(commitGroup);
+            for (final Frame frame : frames) {
+                addPending(frame.roomRecord);
+            }
+            writtenPosition = position;
+            return commitGroup;
+        }
+    }
+
+    private void check(final Collection<PendingRecord> pendingRecords) {
+        lock.readLock().lock();
+        try {
+            for (final PendingRecord pendingRecord : pendingRecords) {
+                final RoomRecord roomRecord = pendingRecord.getRoomRecord();
+                checkVersion(pendingRecord, findLatestVersion(roomRecord.getRoomId()));
+                checkName(roomRecord, findLatestOwner(roomRecord.getName()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Integer findLatestVersion(final int roomId) {
+        final RoomRecord pendingRecord = pendingRecordByRoomId.get(roomId);
+        if (pendingRecord != null) {
+            return pendingRecord.isDeleted() ? null : pendingRecord.getVersion();
+        }
+        final Location location = locationByRoomId.get(roomId);
+        return location == null ? null : location.version;
+    }
+
+    private Integer findLatestOwner(final String name) {
+        final Integer pendingOwner = pendingRoomIdByName.get(name);
+        if (pendingOwner != null) {
+            return pendingOwner;
+        }
+        final Integer owner = roomIdByName.get(name);
+        if (owner != null && pendingRecordByRoomId.containsKey(owner)) {
+            return null;
+        }
+        return owner;
+    }
+
+    private void addPending(final RoomRecord roomRecord) {
+        final RoomRecord previous = pendingRecordByRoomId.put(roomRecord.getRoomId(), roomRecord);
+        if (previous != null && !previous.isDeleted()) {
+            pendingRoomIdByName.remove(previous.getName());
+        }
+        if (!roomRecord.isDeleted()) {
+            pendingRoomIdByName.put(roomRecord.getName(), roomRecord.getRoomId());
+        }
+    }
+
+    private void awaitPublished(final CommitGroup commitGroup) {
+        final List<CommitGroup> forcedGroups;
+        final long forcedPosition;
+        synchronized (commitMonitor) {
+            boolean interrupted = false;
+            while (!commitGroup.isDone() && forcing) {
+                interrupted |= waitForCommit();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (commitGroup.isDone()) {
+                commitGroup.throwIfFailed();
+                return;
+            }
+            forcing = true;
+            forcedGroups = new ArrayList<>(unpublishedGroups);
+            forcedPosition = writtenPosition;
+        }
+        try {
+            for (final CommitGroup forcedGroup : forcedGroups) {
+                for (final Frame frame : forcedGroup.frames) {
+                    writeFully(channel, frame.data, frame.offset);
+                }
+            }
+            if (fsync) {
+                channel.force(false);
+                forceCount.incrementAndGet();
+            }
+        } catch (IOException e) {
+            discardUnpublished(e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            discardUnpublished(new IOException(e));
+            throw e;
+        }
+        publish(forcedGroups, forcedPosition);
+    }
+
+    private boolean waitForCommit() {
+        try {
+            commitMonitor.wait();
+            return false;
+        } catch (InterruptedException e) {
+            return true;
+        }
+    }
+
+    private void publish(final List<CommitGroup> forcedGroups, final long endPosition) {
+        synchronized (commitMonitor) {
+            lock.writeLock().lock();
+            try {
+                for (final CommitGroup forcedGroup : forcedGroups) {
+                    for (final Frame frame : forcedGroup.frames) {
+                        apply(frame.roomRecord, frame.offset, frame.length);
+                    }
+                }
+                fileSize = endPosition;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            unpublishedGroups.subList(0, forcedGroups.size()).clear();
+            forcedGroups.forEach(CommitGroup::markPublished);
+            rebuildPending();
+            forcing = false;
+            commitMonitor.notifyAll();
+        }
+    }
+
+    private void discardUnpublished(final IOException cause) {
+        synchronized (commitMonitor) {
+            truncate(fileSize);
+            unpublishedGroups.forEach(unpublishedGroup -> unpublishedGroup.markFailed(cause));
+            unpublishedGroups.clear();
+            writtenPosition = fileSize;
+            rebuildPending();
+            forcing = false;
+            commitMonitor.notifyAll();
+        }
+    }
+
+    private void rebuildPending() {
+        pendingRecordByRoomId.clear();
+        pendingRoomIdByName.clear();
+        for (final CommitGroup unpublishedGroup : unpublishedGroups) {
+            for (final Frame frame : unpublishedGroup.frames) {
+                addPending(frame.roomRecord);
+            }
+        }
+    }
+
+    private void truncate(final long position) {
+        try {
+            channel.truncate(position);
+        } catch (IOException e) {
+            logger.warn("기록하지 못한 로그를 잘라내지 못했습니다. path={}", path, e);
+        }
+    }
+
+    private void awaitIdle() {
+        boolean interrupted = false;
+        while (forcing || !unpublishedGroups.isEmpty()) {
+            interrupted |= waitForCommit();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void apply(final RoomRecord roomRecord, final long offset, final int frameLength) {
+        final int roomId = roomRecord.getRoomId();
+        lastRoomId = Math.max(lastRoomId, roomId);
+        final Location previous = locationByRoomId.remove(roomId);
+        if (previous != null) {
+            liveBytes -= previous.length;
+            roomIdByName.remove(previous.name);
+        }
+        if (roomRecord.isDeleted()) {
+            return;
+        }
+        locationByRoomId.put(roomId, new Location(offset, frameLength, roomRecord.getVersion(), roomRecord.getName()));
+        roomIdByName.put(roomRecord.getName(), roomId);
+        liveBytes += frameLength;
+    }
+
+    public boolean compactIfNeeded() {
+        lock.readLock().lock();
+        try {
+            final long garbageBytes = fileSize - liveBytes;
+            if (garbageBytes < compactionMinBytes || garbageBytes <= liveBytes) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        compact();
+        return true;
+    }
+
+    public void compact() {
+        synchronized (commitMonitor) {
+            awaitIdle();
+            lock.writeLock().lock();
+            try {
+                final long beforeSize = fileSize;
+                final Path compactPath = path.resolveSibling(path.getFileName() + ".compact");
+                final NavigableMap<Integer, Location> compactedLocations = new TreeMap<>();
+                long position = 0;
+                try (final FileChannel compactChannel = FileChannel.open(compactPath, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    for (final Map.Entry<Integer, Location> entry : locationByRoomId.entrySet()) {
+                        final Location location = entry.getValue();
+                        writeFully(compactChannel, readFrame(location), position);
+                        compactedLocations.put(entry.getKey(),
+                                new Location(position, location.length, location.version, location.name));
+                        position += location.length;
+                    }
+                    if (lastRoomId > 0 && !locationByRoomId.containsKey(lastRoomId)) {
+                        final ByteBuffer frame = toFrame(RoomRecord.deleted(lastRoomId).encode());
+                        final int frameLength = frame.remaining();
+                        writeFully(compactChannel, frame, position);
+                        position += frameLength;
+                    }
+                    compactChannel.force(true);
+                }
+                channel.close();
+                Files.move(compactPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                channel = openChannel(path);
+                locationByRoomId.clear();
+                locationByRoomId.putAll(compactedLocations);
+                fileSize = position;
+                writtenPosition = position;
+                logger.info("로그 파일을 압축했습니다. path={}, before={}B, after={}B", path, beforeSize, fileSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private RoomRecord read(final Location location) {
+        try {
+            final ByteBuffer frame = readFrame(location);
+            frame.getInt();
+            final int checksum = frame.getInt();
+            final byte[] payload = new byte[frame.remaining()];
+            frame.get(payload);
+            if (checksum(payload) != checksum) {
+                throw new IllegalStateException("로그 파일의 레코드가 손상되었습니다.");
+            }
+            return RoomRecord.decode(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer readFrame(final Location location) throws IOException {
+        final ByteBuffer frame = ByteBuffer.allocate(location.length);
+        while (frame.hasRemaining()) {
+            final int read = channel.read(frame, location.offset + frame.position());
+            if (read < 0) {
+                throw new IllegalStateException("로그 파일의 레코드가 손상되었습니다.");
+            }
+        }
+        return frame.flip();
+    }
+
+    private static ByteBuffer toFrame(final byte[] payload) {
+        if (payload.length > MAX_PAYLOAD_SIZE) {
+            throw new IllegalArgumentException("레코드가 너무 큽니다.");
+        }
+        final ByteBuffer frame = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        frame.putInt(payload.length);
+        frame.putInt(checksum(payload));
+        frame.put(payload);
+        return frame.flip();
+    }
+
+    private static void writeFully(final FileChannel fileChannel, final ByteBuffer buffer, final long position)
+            throws IOException {
+        long writePosition = position;
+        while (buffer.hasRemaining()) {
+            writePosition += fileChannel.write(buffer, writePosition);
+        }
+    }
+
+    private static int checksum(final byte[] payload) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        return (int) crc32.getValue();
+    }
+
+    public long getFileSize() {
+        lock.readLock().lock();
+        try {
+            return fileSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getForceCount() {
+        return forceCount.get();
+    }
+
+    @Override
+    public void close() {
+        synchronized (commitMonitor) {
+            awaitIdle();
+            lock.writeLock().lock();
+            try {
+                if (fsync) {
+                    channel.force(true);
+                }
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static class CommitGroup {
+
+        private final List<Frame> frames;
+        private final long endPosition;
+        private boolean published;
+        private IOException failure;
+
+        private CommitGroup(final List<Frame> frames, final long endPosition) {
+            this.frames = frames;
+            this.endPosition = endPosition;
+        }
+
+        private boolean isDone() {
+            return published || failure != null;
+        }
+
+        private void markPublished() {
+            published = true;
+        }
+
+        private void markFailed(final IOException cause) {
+            failure = cause;
+        }
+
+        private void throwIfFailed() {
+            if (failure != null) {
+                throw new UncheckedIOException(failure);
+            }
+        }
+    }
+
+    private static class Frame {
+
+        private final RoomRecord roomRecord;
+        private final long offset;
+        private final int length;
+        private final ByteBuffer data;
+
+        private Frame(final RoomRecord roomRecord, final long offset, final int length, final ByteBuffer data) {
+            this.roomRecord = roomRecord;
+            this.offset = offset;
+            this.length = length;
+            this.data = data;
+        }
+    }
+
+    private static class Location {
+
+        private final long offset;
+        private final int length;
+        private final int version;
+        private final String name;
+
+        private Location(final long offset, final int length, final int version, final String name) {
+            this.offset = offset;
+            this.length = length;
+            this.version = version;
+            this.name = name;
+        }
+    }
+}
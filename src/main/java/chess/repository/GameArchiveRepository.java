@@ -0,0 +1,11 @@
+package chess.repository;
+
+import chess.dto.response.ArchivedGameDto;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GameArchiveRepository {
+    List<Integer> archiveFinishedBefore(LocalDateTime finishedBefore, int batchSize);
+
+    ArchivedGameDto get(int roomId);
+}
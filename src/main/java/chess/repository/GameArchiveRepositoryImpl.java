@@ -0,0 +1,81 @@
+package chess.repository;
+
+import chess.dao.ChessPieceDao;
+import chess.dao.MoveHistoryDao;
+import chess.dao.RoomArchiveDao;
+import chess.dao.RoomDao;
+import chess.dao.RoomShardRouter;
+import chess.dto.response.ArchivedGameDto;
+import chess.entity.ChessPieceEntity;
+import chess.entity.RoomArchiveEntity;
+import chess.entity.RoomEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@Profile("!embedded")
+public class GameArchiveRepositoryImpl implements GameArchiveRepository {
+
+    private final RoomDao roomDao;
+    private final ChessPieceDao chessPieceDao;
+    private final RoomArchiveDao roomArchiveDao;
+    private final MoveHistoryDao moveHistoryDao;
+    private final RoomShardRouter roomShardRouter;
+
+    public GameArchiveRepositoryImpl(final RoomDao roomDao, final ChessPieceDao chessPieceDao,
+                                     final RoomArchiveDao roomArchiveDao, final MoveHistoryDao moveHistoryDao,
+                                     final RoomShardRouter roomShardRouter) {
+        this.roomDao = roomDao;
+        this.chessPieceDao = chessPieceDao;
+        this.roomArchiveDao = roomArchiveDao;
+        this.moveHistoryDao = moveHistoryDao;
+        this.roomShardRouter = roomShardRouter;
+    }
+
+    @Override
+    @Transactional
+    public List<Integer> archiveFinishedBefore(final LocalDateTime finishedBefore, final int batchSize) {
+        final List<Integer> roomIds = roomDao.findAllFinishedIdsUpdatedBefore(finishedBefore, batchSize);
+        if (roomIds.isEmpty()) {
+            return roomIds;
+        }
+
+        final Map<Integer, List<ChessPieceEntity>> piecesByRoomId = chessPieceDao.findAllEntityByRoomIds(roomIds)
+                .stream()
+                .collect(Collectors.groupingBy(ChessPieceEntity::getRoomId));
+        final List<RoomArchiveEntity> roomArchiveEntities = roomDao.findAllByIds(roomIds)
+                .stream()
+                .map(roomEntity -> toRoomArchiveEntity(roomEntity, piecesByRoomId))
+                .collect(Collectors.toList());
+
+        roomArchiveDao.saveAll(roomArchiveEntities);
+        chessPieceDao.deleteAllByRoomIds(roomIds);
+        moveHistoryDao.deleteAllByRoomIds(roomIds);
+        roomDao.purgeAllByIds(roomIds);
+        return roomIds;
+    }
+
+    private RoomArchiveEntity toRoomArchiveEntity(final RoomEntity roomEntity,
+                                                  final Map<Integer, List<ChessPieceEntity>> piecesByRoomId) {
+        final List<ChessPieceEntity> chessPieceEntities = piecesByRoomId.getOrDefault(
+                roomEntity.getRoomId(), List.of());
+        return RoomArchiveEntity.of(roomEntity, chessPieceEntities);
+    }
+
+    @Override
+    public ArchivedGameDto get(final int roomId) {
+        final RoomArchiveEntity roomArchiveEntity = roomShardRouter.callForRoom(roomId,
+                () -> roomArchiveDao.findByRoomId(roomId));
+        return ArchivedGameDto.of(
+                roomArchiveEntity.getRoomId(),
+                roomArchiveEntity.getName(),
+                roomArchiveEntity.toGameStatus(),
+                roomArchiveEntity.toPieceByPosition()
+        );
+    }
+}
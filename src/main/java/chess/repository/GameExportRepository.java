@@ -0,0 +1,9 @@
+package chess.repository;
+
+import chess.dto.request.GameExportRequestDto;
+import chess.dto.response.ExportedGameDto;
+import java.util.function.Consumer;
+
+public interface GameExportRepository {
+    void forEach(GameExportRequestDto request, int fetchSize, Consumer<ExportedGameDto> consumer);
+}
@@ -0,0 +1,61 @@
+package chess.repository;
+
+import chess.dao.GameExportDao;
+import chess.dao.RoomShardRouter;
+import chess.domain.GameStatus;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.position.Position;
+import chess.dto.request.GameExportRequestDto;
+import chess.dto.response.ExportedGameDto;
+import chess.entity.ChessPieceEntity;
+import chess.entity.RoomEntity;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("!embedded")
+public class GameExportRepositoryImpl implements GameExportRepository {
+
+    private final GameExportDao gameExportDao;
+    private final RoomShardRouter roomShardRouter;
+
+    public GameExportRepositoryImpl(final GameExportDao gameExportDao, final RoomShardRouter roomShardRouter) {
+        this.gameExportDao = gameExportDao;
+        this.roomShardRouter = roomShardRouter;
+    }
+
+    @Override
+    public void forEach(final GameExportRequestDto request, final int fetchSize,
+                        final Consumer<ExportedGameDto> consumer) {
+        final List<String> gameStatuses = request.getGameStatuses()
+                .stream()
+                .map(GameStatus::getValue)
+                .collect(Collectors.toList());
+        roomShardRouter.queryEachShard(() -> {
+            gameExportDao.findAllWithPieces(gameStatuses, request.getFromRoomId(), request.getToRoomId(), fetchSize,
+                    (roomEntity, chessPieceEntities) -> consumer.accept(toExportedGame(roomEntity,
+                            chessPieceEntities)));
+            return null;
+        });
+    }
+
+    private ExportedGameDto toExportedGame(final RoomEntity roomEntity,
+                                           final List<ChessPieceEntity> chessPieceEntities) {
+        final Map<Position, ChessPiece> pieceByPosition = chessPieceEntities.stream()
+                .collect(Collectors.toMap(
+                        ChessPieceEntity::toPosition,
+                        ChessPieceEntity::toChessPiece
+                ));
+        return ExportedGameDto.of(
+                roomEntity.getRoomId(),
+                roomEntity.getName(),
+                roomEntity.toGameStatus(),
+                roomEntity.toCurrentTurn(),
+                pieceByPosition
+        );
+    }
+}
@@ -0,0 +1,214 @@
+package chess.repository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class MemoryRoomStore extends RoomRecordStore implements Closeable {
+
+    private static final int SNAPSHOT_MAGIC = 0x43485353;
+    private static final int SNAPSHOT_FORMAT = 1;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Path snapshotPath;
+    private final NavigableMap<Integer, RoomRecord> recordByRoomId = new ConcurrentSkipListMap<>();
+    private final Map<String, Integer> roomIdByName = new ConcurrentHashMap<>();
+    private final Object commitMonitor = new Object();
+    private int lastRoomId;
+    private long modificationCount;
+    private long snapshotModificationCount;
+
+    private MemoryRoomStore(final Path snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    public static MemoryRoomStore open(final Path snapshotPath) {
+        final MemoryRoomStore memoryRoomStore = new MemoryRoomStore(snapshotPath);
+        if (snapshotPath != null && Files.exists(snapshotPath)) {
+            memoryRoomStore.loadSnapshot();
+        }
+        return memoryRoomStore;
+    }
+
+    @Override
+    Optional<RoomRecord> findCommitted(final int roomId) {
+        return Optional.ofNullable(recordByRoomId.get(roomId));
+    }
+
+    @Override
+    List<RoomRecord> findAll(final int offset, final int limit) {
+        return recordByRoomId.values()
+                .stream()
+                .skip(offset)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    List<RoomRecord> findAllAfter(final int afterRoomId, final int limit) {
+        return recordByRoomId.tailMap(afterRoomId, false)
+                .values()
+                .stream()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    int count() {
+        return recordByRoomId.size();
+    }
+
+    @Override
+    boolean existsByName(final String name) {
+        return roomIdByName.containsKey(name);
+    }
+
+    @Override
+    int nextRoomId() {
+        synchronized (commitMonitor) {
+            return ++lastRoomId;
+        }
+    }
+
+    @Override
+    long commit(final Collection<PendingRecord> pendingRecords) {
+        synchronized (commitMonitor) {
+            for (final PendingRecord pendingRecord : pendingRecords) {
+                final RoomRecord roomRecord = pendingRecord.getRoomRecord();
+                final RoomRecord committed = recordByRoomId.get(roomRecord.getRoomId());
+                checkVersion(pendingRecord, committed == null ? null : committed.getVersion());
+                checkName(roomRecord, roomIdByName.get(roomRecord.getName()));
+            }
+            for (final PendingRecord pendingRecord : pendingRecords) {
+                apply(pendingRecord.getRoomRecord());
+            }
+            return ++modificationCount;
+        }
+    }
+
+    private void apply(final RoomRecord roomRecord) {
+        final int roomId = roomRecord.getRoomId();
+        lastRoomId = Math.max(lastRoomId, roomId);
+        final RoomRecord previous = roomRecord.isDeleted()
+                ? recordByRoomId.remove(roomId)
+                : recordByRoomId.put(roomId, roomRecord);
+        if (previous != null) {
+            roomIdByName.remove(previous.getName());
+        }
+        if (!roomRecord.isDeleted()) {
+            roomIdByName.put(roomRecord.getName(), roomId);
+        }
+    }
+
+    public boolean saveSnapshot() {
+        if (snapshotPath == null) {
+            return false;
+        }
+        final List<RoomRecord> roomRecords;
+        final int snapshotLastRoomId;
+        final long snapshotCount;
+        synchronized (commitMonitor) {
+            if (modificationCount == snapshotModificationCount) {
+                return false;
+            }
+            roomRecords = new ArrayList<>(recordByRoomId.values());
+            snapshotLastRoomId = lastRoomId;
+            snapshotCount = modificationCount;
+        }
+        try {
+            writeSnapshot(roomRecords, snapshotLastRoomId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        synchronized (commitMonitor) {
+            snapshotModificationCount = snapshotCount;
+        }
+        logger.info("스냅샷을 저장했습니다. path={}, rooms={}", snapshotPath, roomRecords.size());
+        return true;
+    }
+
+    private synchronized void writeSnapshot(final List<RoomRecord> roomRecords, final int snapshotLastRoomId)
+            throws IOException {
+        if (snapshotPath.getParent() != null) {
+            Files.createDirectories(snapshotPath.getParent());
+        }
+        final Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (final FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final OutputStream channelStream = Channels.newOutputStream(channel);
+            final CheckedOutputStream checkedStream = new CheckedOutputStream(channelStream, new CRC32());
+            final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(checkedStream));
+            output.writeInt(SNAPSHOT_MAGIC);
+            output.writeInt(SNAPSHOT_FORMAT);
+            output.writeInt(snapshotLastRoomId);
+            output.writeInt(roomRecords.size());
+            for (final RoomRecord roomRecord : roomRecords) {
+                final byte[] payload = roomRecord.encode();
+                output.writeShort(payload.length);
+                output.write(payload);
+            }
+            output.flush();
+            new DataOutputStream(channelStream).writeLong(checkedStream.getChecksum().getValue());
+            channel.force(true);
+        }
+        Files.move(temporaryPath, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void loadSnapshot() {
+        try (final InputStream fileStream = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+            final CheckedInputStream checkedStream = new CheckedInputStream(fileStream, new CRC32());
+            final DataInputStream input = new DataInputStream(checkedStream);
+            if (input.readInt() != SNAPSHOT_MAGIC || input.readInt() != SNAPSHOT_FORMAT) {
+                throw new IllegalStateException("스냅샷 파일 형식이 올바르지 않습니다.");
+            }
+            final int snapshotLastRoomId = input.readInt();
+            final int roomCount = input.readInt();
+            final List<RoomRecord> roomRecords = new ArrayList<>(roomCount);
+            for (int i = 0; i < roomCount; i++) {
+                final byte[] payload = new byte[input.readUnsignedShort()];
+                input.readFully(payload);
+                roomRecords.add(RoomRecord.decode(payload));
+            }
+            final long checksum = checkedStream.getChecksum().getValue();
+            if (new DataInputStream(fileStream).readLong() != checksum) {
+                throw new IllegalStateException("스냅샷 파일이 손상되었습니다.");
+            }
+            roomRecords.forEach(this::apply);
+            lastRoomId = Math.max(lastRoomId, snapshotLastRoomId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logger.info("스냅샷을 불러왔습니다. path={}, rooms={}", snapshotPath, recordByRoomId.size());
+    }
+
+    @Override
+    public void close() {
+        saveSnapshot();
+    }
+}
@@ -0,0 +1,9 @@
+package chess.repository;
+
+import chess.domain.position.PackedMoveHistory;
+
+public interface MoveHistoryRepository {
+    PackedMoveHistory get(int roomId);
+
+    void appendAll(int roomId, PackedMoveHistory moves);
+}
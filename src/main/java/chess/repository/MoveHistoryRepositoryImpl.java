@@ -0,0 +1,44 @@
+package chess.repository;
+
+import chess.dao.MoveHistoryDao;
+import chess.dao.RoomShardRouter;
+import chess.domain.position.PackedMoveHistory;
+import chess.entity.MoveHistoryEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("!embedded")
+public class MoveHistoryRepositoryImpl implements MoveHistoryRepository {
+
+    private final MoveHistoryDao moveHistoryDao;
+    private final RoomShardRouter roomShardRouter;
+
+    public MoveHistoryRepositoryImpl(final MoveHistoryDao moveHistoryDao, final RoomShardRouter roomShardRouter) {
+        this.moveHistoryDao = moveHistoryDao;
+        this.roomShardRouter = roomShardRouter;
+    }
+
+    @Override
+    public PackedMoveHistory get(final int roomId) {
+        return roomShardRouter.callForRoom(roomId, () -> moveHistoryDao.findByRoomId(roomId))
+                .map(MoveHistoryEntity::toMoveHistory)
+                .orElseGet(PackedMoveHistory::empty);
+    }
+
+    @Override
+    public void appendAll(final int roomId, final PackedMoveHistory moves) {
+        final MoveHistoryEntity moveHistoryEntity = MoveHistoryEntity.of(roomId, moves);
+        roomShardRouter.runForRoom(roomId, () -> {
+            if (moveHistoryDao.append(moveHistoryEntity) > 0) {
+                return;
+            }
+            try {
+                moveHistoryDao.save(moveHistoryEntity);
+            } catch (DuplicateKeyException e) {
+                moveHistoryDao.append(moveHistoryEntity);
+            }
+        });
+    }
+}
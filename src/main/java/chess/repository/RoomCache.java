@@ -0,0 +1,147 @@
+package chess.repository;
+
+import chess.domain.room.Room;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class RoomCache {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maxSize;
+    private final Map<Integer, Room> roomById;
+    private final Set<Integer> removedRoomIds = new LinkedHashSet<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public RoomCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.roomById = new LinkedHashMap<>(16, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, Room> eldest) {
+                final boolean overflow = size() > RoomCache.this.maxSize;
+                if (overflow) {
+                    evictionCount.incrementAndGet();
+                }
+                return overflow;
+            }
+        };
+    }
+
+    public Optional<Room> find(final int roomId) {
+        final Room room;
+        synchronized (roomById) {
+            room = roomById.get(roomId);
+        }
+        if (room == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(room.copy());
+    }
+
+    public void put(final int roomId, final Room room) {
+        if (!room.getChessGame().getChessBoard().isLoaded()) {
+            evict(roomId);
+            return;
+        }
+        final Room snapshot = room.copy();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putIfNewer(roomId, snapshot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    putIfNewer(roomId, snapshot);
+                    return;
+                }
+                evict(roomId);
+            }
+        });
+    }
+
+    private void putIfNewer(final int roomId, final Room snapshot) {
+        synchronized (roomById) {
+            if (removedRoomIds.contains(roomId)) {
+                return;
+            }
+            final Room cachedRoom = roomById.get(roomId);
+            if (cachedRoom == null || cachedRoom.getVersion() <= snapshot.getVersion()) {
+                roomById.put(roomId, snapshot);
+            }
+        }
+    }
+
+    public void evict(final int roomId) {
+        synchronized (roomById) {
+            roomById.remove(roomId);
+        }
+    }
+
+    public void remove(final int roomId) {
+        synchronized (roomById) {
+            roomById.remove(roomId);
+            removedRoomIds.remove(roomId);
+            removedRoomIds.add(roomId);
+            if (removedRoomIds.size() > maxSize) {
+                removedRoomIds.remove(removedRoomIds.iterator().next());
+            }
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                synchronized (roomById) {
+                    removedRoomIds.remove(roomId);
+                }
+            }
+        });
+    }
+
+    public void clear() {
+        synchronized (roomById) {
+            roomById.clear();
+            removedRoomIds.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (roomById) {
+            return roomById.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+}
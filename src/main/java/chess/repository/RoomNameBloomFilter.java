@@ -0,0 +1,73 @@
+package chess.repository;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class RoomNameBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+    private volatile boolean ready;
+
+    public RoomNameBloomFilter(final int expectedSize, final double falsePositiveRate) {
+        if (expectedSize < 1) {
+            throw new IllegalArgumentException("예상 개수는 1 이상이어야 합니다.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다.");
+        }
+        final double optimalBitSize = -expectedSize * Math.log(falsePositiveRate) / (LN2 * LN2);
+        this.bitSize = (int) Math.min(Integer.MAX_VALUE - Long.SIZE, Math.max(Long.SIZE, Math.ceil(optimalBitSize)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedSize * LN2));
+        this.bits = new AtomicLongArray((bitSize + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    public boolean mightContain(final String roomName) {
+        if (!ready) {
+            return true;
+        }
+        final int hash1 = mix(roomName.hashCode());
+        final int hash2 = mix(hash1 ^ roomName.length());
+        for (int i = 0; i < hashCount; i++) {
+            final int index = indexOf(hash1, hash2, i);
+            if ((bits.get(index / Long.SIZE) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(final String roomName) {
+        final int hash1 = mix(roomName.hashCode());
+        final int hash2 = mix(hash1 ^ roomName.length());
+        for (int i = 0; i < hashCount; i++) {
+            final int index = indexOf(hash1, hash2, i);
+            final long mask = 1L << index;
+            bits.getAndUpdate(index / Long.SIZE, word -> word | mask);
+        }
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private int indexOf(final int hash1, final int hash2, final int round) {
+        return Math.floorMod(hash1 + round * hash2, bitSize);
+    }
+
+    private static int mix(final int hash) {
+        int mixed = hash;
+        mixed ^= mixed >>> 16;
+        mixed *= 0x85ebca6b;
+        mixed ^= mixed >>> 13;
+        mixed *= 0xc2b2ae35;
+        mixed ^= mixed >>> 16;
+        return mixed;
+    }
+}
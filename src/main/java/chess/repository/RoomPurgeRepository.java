@@ -0,0 +1,10 @@
+package chess.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RoomPurgeRepository {
+    List<Integer> findDeletedRoomIds(int afterRoomId, LocalDateTime deletedBefore, int limit);
+
+    int purge(List<Integer> roomIds);
+}
@@ -0,0 +1,41 @@
+package chess.repository;
+
+import chess.dao.ChessPieceDao;
+import chess.dao.MoveHistoryDao;
+import chess.dao.RoomDao;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@Profile("!embedded")
+public class RoomPurgeRepositoryImpl implements RoomPurgeRepository {
+
+    private final RoomDao roomDao;
+    private final ChessPieceDao chessPieceDao;
+    private final MoveHistoryDao moveHistoryDao;
+
+    public RoomPurgeRepositoryImpl(final RoomDao roomDao, final ChessPieceDao chessPieceDao,
+                                   final MoveHistoryDao moveHistoryDao) {
+        this.roomDao = roomDao;
+        this.chessPieceDao = chessPieceDao;
+        this.moveHistoryDao = moveHistoryDao;
+    }
+
+    @Override
+    public List<Integer> findDeletedRoomIds(final int afterRoomId, final LocalDateTime deletedBefore,
+                                            final int limit) {
+        return roomDao.findAllDeletedIdsAfter(afterRoomId, deletedBefore, limit);
+    }
+
+    @Override
+    @Transactional
+    public int purge(final List<Integer> roomIds) {
+        final int deletedPieceCount = chessPieceDao.deleteAllByRoomIds(roomIds);
+        final int deletedMoveHistoryCount = moveHistoryDao.deleteAllByRoomIds(roomIds);
+        final int deletedRoomCount = roomDao.purgeAllByIds(roomIds);
+        return deletedPieceCount + deletedMoveHistoryCount + deletedRoomCount;
+    }
+}
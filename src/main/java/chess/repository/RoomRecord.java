@@ -0,0 +1,132 @@
+package chess.repository;
+
+import chess.domain.ChessGame;
+import chess.domain.GameStatus;
+import chess.domain.chessboard.ChessBoard;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.chesspiece.Color;
+import chess.domain.position.Position;
+import chess.domain.room.Password;
+import chess.domain.room.Room;
+import chess.domain.room.RoomName;
+import chess.dto.BoardCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+class RoomRecord {
+
+    private static final byte ACTIVE = 0;
+    private static final byte DELETED = 1;
+    private static final byte[] EMPTY_BOARD = new byte[0];
+
+    private final int roomId;
+    private final boolean deleted;
+    private final int version;
+    private final String name;
+    private final String password;
+    private final String gameStatus;
+    private final String currentTurn;
+    private final byte[] board;
+
+    private RoomRecord(final int roomId, final boolean deleted, final int version, final String name,
+                       final String password, final String gameStatus, final String currentTurn,
+                       final byte[] board) {
+        this.roomId = roomId;
+        this.deleted = deleted;
+        this.version = version;
+        this.name = name;
+        this.password = password;
+        this.gameStatus = gameStatus;
+        this.currentTurn = currentTurn;
+        this.board = board;
+    }
+
+    static RoomRecord withoutBoard(final int roomId, final Room room) {
+        return new RoomRecord(roomId, false, room.getVersion(), room.getName(), room.getPassword(),
+                room.getGameStatus().getValue(), room.getCurrentTurn().getValue(), EMPTY_BOARD);
+    }
+
+    static RoomRecord deleted(final int roomId) {
+        return new RoomRecord(roomId, true, 0, "", "", "", "", EMPTY_BOARD);
+    }
+
+    RoomRecord withBoard(final Map<Position, ChessPiece> pieceByPosition) {
+        return new RoomRecord(roomId, deleted, version, name, password, gameStatus, currentTurn,
+                BoardCodec.encode(pieceByPosition));
+    }
+
+    Room toRoom() {
+        final ChessBoard chessBoard = new ChessBoard(toPieceByPosition(), Color.from(currentTurn));
+        final ChessGame chessGame = new ChessGame(chessBoard, GameStatus.from(gameStatus));
+        return new Room(new RoomName(name), Password.fromHash(password), chessGame, version);
+    }
+
+    Map<Position, ChessPiece> toPieceByPosition() {
+        return BoardCodec.decode(board);
+    }
+
+    byte[] encode() {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(64 + board.length);
+        try (final DataOutputStream output = new DataOutputStream(outputStream)) {
+            output.writeByte(deleted ? DELETED : ACTIVE);
+            output.writeInt(roomId);
+            if (!deleted) {
+                output.writeInt(version);
+                output.writeUTF(name);
+                output.writeUTF(password);
+                output.writeUTF(gameStatus);
+                output.writeUTF(currentTurn);
+                output.writeShort(board.length);
+                output.write(board);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    static RoomRecord decode(final byte[] bytes) {
+        try (final DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            final boolean deleted = input.readByte() == DELETED;
+            final int roomId = input.readInt();
+            if (deleted) {
+                return deleted(roomId);
+            }
+            final int version = input.readInt();
+            final String name = input.readUTF();
+            final String password = input.readUTF();
+            final String gameStatus = input.readUTF();
+            final String currentTurn = input.readUTF();
+            final byte[] board = new byte[input.readUnsignedShort()];
+            input.readFully(board);
+            return new RoomRecord(roomId, false, version, name, password, gameStatus, currentTurn, board);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int getRoomId() {
+        return roomId;
+    }
+
+    boolean isDeleted() {
+        return deleted;
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getGameStatus() {
+        return gameStatus;
+    }
+}
@@ -0,0 +1,98 @@
+package chess.repository;
+
+import chess.domain.room.Room;
+import chess.dto.response.RoomCursorPageDto;
+import chess.dto.response.RoomPageDto;
+import chess.dto.response.RoomResponseDto;
+import chess.exception.NotFoundException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class RoomRecordRepository implements RoomRepository {
+
+    private final RoomRecordStore roomRecordStore;
+
+    public RoomRecordRepository(final RoomRecordStore roomRecordStore) {
+        this.roomRecordStore = roomRecordStore;
+    }
+
+    @Override
+    public Room get(final int roomId) {
+        return roomRecordStore.find(roomId)
+                .map(RoomRecord::toRoom)
+                .orElseThrow(() -> new NotFoundException("방이 존재하지 않습니다."));
+    }
+
+    @Override
+    public RoomPageDto getAll(final int page, final int size) {
+        final int totalSize = roomRecordStore.count();
+        final int lastPage = (int) Math.ceil((double) totalSize / size);
+
+        final List<RoomResponseDto> responseDtos = roomRecordStore.findAll(calculateOffset(page, size), size)
+                .stream()
+                .map(roomRecord -> RoomResponseDto.of(
+                        roomRecord.getRoomId(),
+                        roomRecord.getName(),
+                        roomRecord.getGameStatus()
+                ))
+                .collect(Collectors.toList());
+        return RoomPageDto.of(page, lastPage, responseDtos);
+    }
+
+    @Override
+    public RoomCursorPageDto getAllAfter(final int afterRoomId, final int size) {
+        final List<RoomResponseDto> responseDtos = roomRecordStore.findAllAfter(afterRoomId, size + 1)
+                .stream()
+                .map(roomRecord -> RoomResponseDto.of(
+                        roomRecord.getRoomId(),
+                        roomRecord.getName(),
+                        roomRecord.getGameStatus()
+                ))
+                .collect(Collectors.toList());
+        return RoomCursorPageDto.of(responseDtos, size);
+    }
+
+    @Override
+    public Map<Integer, Room> getAllByIds(final List<Integer> roomIds) {
+        final Map<Integer, Room> roomById = new LinkedHashMap<>();
+        for (final int roomId : roomIds) {
+            roomRecordStore.find(roomId)
+                    .ifPresent(roomRecord -> roomById.put(roomId, roomRecord.toRoom()));
+        }
+        return roomById;
+    }
+
+    private int calculateOffset(final int page, final int size) {
+        if (page < 1) {
+            return 0;
+        }
+        return (page - 1) * size;
+    }
+
+    @Override
+    public int add(final Room room) {
+        if (roomRecordStore.existsByName(room.getName())) {
+            throw new IllegalArgumentException("이름이 같은 방이 이미 존재합니다.");
+        }
+        final int roomId = roomRecordStore.nextRoomId();
+        roomRecordStore.write(RoomRecord.withoutBoard(roomId, room), RoomRecordStore.ANY_VERSION);
+        return roomId;
+    }
+
+    @Override
+    public void update(final int roomId, final Room room, final int versionIncrement) {
+        final RoomRecord previous = roomRecordStore.find(roomId)
+                .orElseThrow(() -> new NotFoundException("방이 존재하지 않습니다."));
+        final int expectedVersion = room.getVersion();
+        room.increaseVersion(versionIncrement);
+        roomRecordStore.write(RoomRecord.withoutBoard(roomId, room).withBoard(previous.toPieceByPosition()),
+                expectedVersion);
+    }
+
+    @Override
+    public void remove(final int roomId) {
+        roomRecordStore.write(RoomRecord.deleted(roomId), RoomRecordStore.ANY_VERSION);
+    }
+}
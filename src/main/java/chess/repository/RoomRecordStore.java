@@ -0,0 +1,142 @@
+package chess.repository;
+
+import chess.exception.ConflictException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public abstract class RoomRecordStore {
+
+    static final int ANY_VERSION = -1;
+
+    private static final String CONFLICT_MESSAGE = "다른 요청에 의해 방이 이미 변경되었습니다.";
+
+    Optional<RoomRecord> find(final int roomId) {
+        final PendingRecords pendingRecords = currentPendingRecords();
+        if (pendingRecords != null && pendingRecords.contains(roomId)) {
+            return pendingRecords.find(roomId);
+        }
+        return findCommitted(roomId);
+    }
+
+    abstract Optional<RoomRecord> findCommitted(int roomId);
+
+    abstract List<RoomRecord> findAll(int offset, int limit);
+
+    abstract List<RoomRecord> findAllAfter(int afterRoomId, int limit);
+
+    abstract int count();
+
+    abstract boolean existsByName(String name);
+
+    abstract int nextRoomId();
+
+    abstract long commit(Collection<PendingRecord> pendingRecords);
+
+    void awaitDurable(final long sequence) {
+    }
+
+    void write(final RoomRecord roomRecord, final int expectedVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            awaitDurable(commit(List.of(new PendingRecord(roomRecord, expectedVersion))));
+            return;
+        }
+        pendingRecords().put(roomRecord, expectedVersion);
+    }
+
+    private PendingRecords currentPendingRecords() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        return (PendingRecords) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private PendingRecords pendingRecords() {
+        final PendingRecords pendingRecords = currentPendingRecords();
+        if (pendingRecords != null) {
+            return pendingRecords;
+        }
+        final PendingRecords createdRecords = new PendingRecords();
+        TransactionSynchronizationManager.bindResource(this, createdRecords);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                awaitDurable(commit(createdRecords.values()));
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RoomRecordStore.this);
+            }
+        });
+        return createdRecords;
+    }
+
+    static void checkVersion(final PendingRecord pendingRecord, final Integer committedVersion) {
+        if (pendingRecord.expectedVersion == ANY_VERSION) {
+            return;
+        }
+        if (committedVersion == null || committedVersion != pendingRecord.expectedVersion) {
+            throw new ConflictException(CONFLICT_MESSAGE);
+        }
+    }
+
+    static void checkName(final RoomRecord roomRecord, final Integer ownerRoomId) {
+        if (roomRecord.isDeleted()) {
+            return;
+        }
+        if (ownerRoomId != null && ownerRoomId != roomRecord.getRoomId()) {
+            throw new IllegalArgumentException("이름이 같은 방이 이미 존재합니다.");
+        }
+    }
+
+    static class PendingRecord {
+
+        private final RoomRecord roomRecord;
+        private final int expectedVersion;
+
+        private PendingRecord(final RoomRecord roomRecord, final int expectedVersion) {
+            this.roomRecord = roomRecord;
+            this.expectedVersion = expectedVersion;
+        }
+
+        RoomRecord getRoomRecord() {
+            return roomRecord;
+        }
+    }
+
+    private static class PendingRecords {
+
+        private final Map<Integer, PendingRecord> recordByRoomId = new LinkedHashMap<>();
+
+        private void put(final RoomRecord roomRecord, final int expectedVersion) {
+            final int roomId = roomRecord.getRoomId();
+            final PendingRecord existing = recordByRoomId.get(roomId);
+            if (existing == null) {
+                recordByRoomId.put(roomId, new PendingRecord(roomRecord, expectedVersion));
+                return;
+            }
+            if (expectedVersion != ANY_VERSION && expectedVersion != existing.roomRecord.getVersion()) {
+                throw new ConflictException(CONFLICT_MESSAGE);
+            }
+            recordByRoomId.put(roomId, new PendingRecord(roomRecord, existing.expectedVersion));
+        }
+
+        private boolean contains(final int roomId) {
+            return recordByRoomId.containsKey(roomId);
+        }
+
+        private Optional<RoomRecord> find(final int roomId) {
+            return Optional.of(recordByRoomId.get(roomId).roomRecord)
+                    .filter(roomRecord -> !roomRecord.isDeleted());
+        }
+
+        private Collection<PendingRecord> values() {
+            return recordByRoomId.values();
+        }
+    }
+}
@@ -1,16 +1,27 @@
 package chess.repository;
 
 import chess.domain.room.Room;
+import chess.dto.response.RoomCursorPageDto;
 import chess.dto.response.RoomPageDto;
+import java.util.List;
+import java.util.Map;
 
 public interface RoomRepository {
     Room get(int roomId);
 
     RoomPageDto getAll(int page, int size);
 
+    RoomCursorPageDto getAllAfter(int afterRoomId, int size);
+
+    Map<Integer, Room> getAllByIds(List<Integer> roomIds);
+
     int add(Room room);
 
-    void update(int roomId, Room room);
+    default void update(int roomId, Room room) {
+        update(roomId, room, 1);
+    }
+
+    void update(int roomId, Room room, int versionIncrement);
 
     void remove(int roomId);
 }
@@ -2,73 +2,203 @@ package chess.repository;
 
 import chess.dao.ChessPieceDao;
 import chess.dao.RoomDao;
+import chess.dao.RoomShardRouter;
 import chess.domain.ChessGame;
 import chess.domain.chessboard.ChessBoard;
 import chess.domain.chesspiece.ChessPiece;
 import chess.domain.position.Position;
 import chess.domain.room.Room;
+import chess.dto.response.RoomCursorPageDto;
 import chess.dto.response.RoomPageDto;
 import chess.dto.response.RoomResponseDto;
 import chess.entity.ChessPieceEntity;
 import chess.entity.RoomEntity;
+import chess.exception.ConflictException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@Profile("!embedded")
 public class RoomRepositoryImpl implements RoomRepository {
 
+    private static final String DUPLICATE_NAME_MESSAGE = "이름이 같은 방이 이미 존재합니다.";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     private final RoomDao roomDao;
     private final ChessPieceDao chessPieceDao;
+    private final RoomShardRouter roomShardRouter;
+    private final RoomNameBloomFilter roomNameBloomFilter;
 
-    public RoomRepositoryImpl(final RoomDao roomDao, final ChessPieceDao chessPieceDao) {
+    public RoomRepositoryImpl(final RoomDao roomDao, final ChessPieceDao chessPieceDao,
+                              final RoomShardRouter roomShardRouter, final RoomNameBloomFilter roomNameBloomFilter) {
         this.roomDao = roomDao;
         this.chessPieceDao = chessPieceDao;
+        this.roomShardRouter = roomShardRouter;
+        this.roomNameBloomFilter = roomNameBloomFilter;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRoomNames() {
+        try {
+            roomShardRouter.queryEachShard(() -> {
+                roomDao.forEachActiveName(roomNameBloomFilter::put);
+                return null;
+            });
+            roomNameBloomFilter.markReady();
+        } catch (DataAccessException e) {
+            logger.warn("방 이름 필터를 만들지 못해 모든 이름을 DB에서 확인합니다.", e);
+        }
     }
 
     @Override
     public Room get(final int roomId) {
-        final RoomEntity roomEntity = roomDao.findById(roomId);
+        final RoomEntity roomEntity = roomShardRouter.callForRoom(roomId, () -> roomDao.findById(roomId));
         return toRoom(roomEntity);
     }
 
     @Override
     public RoomPageDto getAll(final int page, final int size) {
-        final int totalSize = roomDao.count();
+        final int totalSize = roomShardRouter.queryEachShard(roomDao::count)
+                .stream()
+                .mapToInt(Integer::intValue)
+                .sum();
         final int lastPage = (int) Math.ceil((double) totalSize / size);
 
-        final List<RoomResponseDto> responseDtos = roomDao.findAll(page, size)
+        final List<RoomResponseDto> responseDtos = findPage(page, size)
                 .stream()
-                .map(roomEntity -> RoomResponseDto.of(
-                        roomEntity.getRoomId(),
-                        roomEntity.getName(),
-                        roomEntity.getGameStatus()
-                ))
+                .map(this::toRoomResponseDto)
                 .collect(Collectors.toList());
         return RoomPageDto.of(page, lastPage, responseDtos);
     }
 
+    private List<RoomEntity> findPage(final int page, final int size) {
+        if (roomShardRouter.getShardCount() == 1) {
+            return roomDao.findAll(page, size);
+        }
+        final int offset = calculateOffset(page, size);
+        return mergeByRoomId(roomShardRouter.queryEachShard(() -> roomDao.findAll(1, offset + size)))
+                .stream()
+                .skip(offset)
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    private int calculateOffset(final int page, final int size) {
+        if (page < 1) {
+            return 0;
+        }
+        return (page - 1) * size;
+    }
+
+    @Override
+    public RoomCursorPageDto getAllAfter(final int afterRoomId, final int size) {
+        final List<RoomResponseDto> responseDtos = mergeByRoomId(
+                roomShardRouter.queryEachShard(() -> roomDao.findAllAfter(afterRoomId, size + 1)))
+                .stream()
+                .limit(size + 1L)
+                .map(this::toRoomResponseDto)
+                .collect(Collectors.toList());
+        return RoomCursorPageDto.of(responseDtos, size);
+    }
+
+    @Override
+    public Map<Integer, Room> getAllByIds(final List<Integer> roomIds) {
+        final Map<Integer, Room> loadedRoomById = new HashMap<>();
+        roomShardRouter.queryEachShardForRooms(roomIds, this::findAllByIds)
+                .forEach(loadedRoomById::putAll);
+
+        final Map<Integer, Room> roomById = new LinkedHashMap<>();
+        for (final int roomId : roomIds) {
+            final Room room = loadedRoomById.get(roomId);
+            if (room != null) {
+                roomById.put(roomId, room);
+            }
+        }
+        return roomById;
+    }
+
+    private Map<Integer, Room> findAllByIds(final List<Integer> roomIds) {
+        final List<RoomEntity> roomEntities = roomDao.findAllByIds(roomIds)
+                .stream()
+                .filter(roomEntity -> !roomEntity.isDelete())
+                .collect(Collectors.toList());
+        final Map<Integer, List<ChessPieceEntity>> piecesByRoomId = chessPieceDao.findAllEntityByRoomIds(
+                        roomEntities.stream()
+                                .map(RoomEntity::getRoomId)
+                                .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(ChessPieceEntity::getRoomId));
+        return roomEntities.stream()
+                .collect(Collectors.toMap(
+                        RoomEntity::getRoomId,
+                        roomEntity -> toRoom(roomEntity,
+                                piecesByRoomId.getOrDefault(roomEntity.getRoomId(), List.of()))
+                ));
+    }
+
+    private Room toRoom(final RoomEntity roomEntity, final List<ChessPieceEntity> chessPieceEntities) {
+        final ChessBoard chessBoard = new ChessBoard(toPieceByPosition(chessPieceEntities),
+                roomEntity.toCurrentTurn());
+        final ChessGame chessGame = new ChessGame(chessBoard, roomEntity.toGameStatus());
+
+        return new Room(roomEntity.toRoomName(), roomEntity.toPassword(), chessGame, roomEntity.getVersion());
+    }
+
+    private List<RoomEntity> mergeByRoomId(final List<List<RoomEntity>> roomEntitiesByShard) {
+        return roomEntitiesByShard.stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingInt(RoomEntity::getRoomId))
+                .collect(Collectors.toList());
+    }
+
+    private RoomResponseDto toRoomResponseDto(final RoomEntity roomEntity) {
+        return RoomResponseDto.of(
+                roomEntity.getRoomId(),
+                roomEntity.getName(),
+                roomEntity.getGameStatus()
+        );
+    }
+
     private Room toRoom(final RoomEntity roomEntity) {
-        final List<ChessPieceEntity> chessPieceEntityList = chessPieceDao.findAllEntityByRoomId(roomEntity.getRoomId());
+        final int roomId = roomEntity.getRoomId();
+        final ChessBoard chessBoard = new ChessBoard(
+                () -> roomShardRouter.callForRoom(roomId, () -> findPieceByPosition(roomId)),
+                roomEntity.toCurrentTurn()
+        );
+        final ChessGame chessGame = new ChessGame(chessBoard, roomEntity.toGameStatus());
+
+        return new Room(roomEntity.toRoomName(), roomEntity.toPassword(), chessGame, roomEntity.getVersion());
+    }
 
-        final Map<Position, ChessPiece> pieceByPosition = chessPieceEntityList.stream()
+    private Map<Position, ChessPiece> findPieceByPosition(final int roomId) {
+        return toPieceByPosition(chessPieceDao.findAllEntityByRoomId(roomId));
+    }
+
+    private Map<Position, ChessPiece> toPieceByPosition(final List<ChessPieceEntity> chessPieceEntities) {
+        return chessPieceEntities.stream()
                 .collect(Collectors.toMap(
                         ChessPieceEntity::toPosition,
                         ChessPieceEntity::toChessPiece
                 ));
-        final ChessBoard chessBoard = new ChessBoard(pieceByPosition, roomEntity.toCurrentTurn());
-        final ChessGame chessGame = new ChessGame(chessBoard, roomEntity.toGameStatus());
-
-        return new Room(roomEntity.toRoomName(), roomEntity.toPassword(), chessGame);
     }
 
     @Override
     public int add(final Room room) {
-        final Optional<RoomEntity> existName = roomDao.findByName(room.getName());
-        if (existName.isPresent()) {
-            throw new IllegalArgumentException("이름이 같은 방이 이미 존재합니다.");
+        if (existsByName(room.getName())) {
+            throw new IllegalArgumentException(DUPLICATE_NAME_MESSAGE);
         }
 
         final RoomEntity roomEntity = new RoomEntity(
@@ -77,16 +207,39 @@ public class RoomRepositoryImpl implements RoomRepository {
                 room.getCurrentTurn(),
                 room.getPassword()
         );
-        return roomDao.save(roomEntity);
+        final int shard = roomShardRouter.selectShard(room.getName());
+        try {
+            final int roomId = roomShardRouter.call(shard, () -> roomDao.save(roomEntity));
+            roomNameBloomFilter.put(room.getName());
+            return roomId;
+        } catch (DuplicateKeyException e) {
+            if (roomShardRouter.call(shard, () -> roomDao.findByName(room.getName()).isPresent())) {
+                throw new IllegalArgumentException(DUPLICATE_NAME_MESSAGE, e);
+            }
+            throw e;
+        }
+    }
+
+    private boolean existsByName(final String roomName) {
+        if (roomShardRouter.getShardCount() == 1 && !roomNameBloomFilter.mightContain(roomName)) {
+            return false;
+        }
+        return roomShardRouter.queryEachShard(() -> roomDao.findByName(roomName).isPresent())
+                .contains(true);
     }
 
     @Override
-    public void update(final int roomId, final Room room) {
-        roomDao.updateById(roomId, room.getGameStatus(), room.getCurrentTurn());
+    public void update(final int roomId, final Room room, final int versionIncrement) {
+        final int updatedRow = roomShardRouter.callForRoom(roomId, () -> roomDao.updateById(
+                roomId, room.getGameStatus(), room.getCurrentTurn(), room.getVersion(), versionIncrement));
+        if (updatedRow == 0) {
+            throw new ConflictException("다른 요청에 의해 방이 이미 변경되었습니다.");
+        }
+        room.increaseVersion(versionIncrement);
     }
 
     @Override
     public void remove(final int roomId) {
-        roomDao.deleteById(roomId);
+        roomShardRouter.runForRoom(roomId, () -> roomDao.deleteById(roomId));
     }
 }
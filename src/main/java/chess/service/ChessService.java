@@ -8,27 +8,41 @@ import chess.domain.position.Position;
 import chess.domain.result.EndResult;
 import chess.domain.room.Room;
 import chess.dto.ChessPieceMapper;
+import chess.dto.request.MoveBatchRequestDto;
 import chess.dto.request.MoveRequestDto;
 import chess.dto.response.ChessPieceDto;
+import chess.dto.response.MoveResultDto;
+import chess.dto.response.RoomStateDto;
+import chess.exception.IllegalMoveException;
 import chess.exception.NotFoundException;
 import chess.repository.ChessGameRepository;
 import chess.repository.RoomRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ChessService {
 
+    private static final int MAX_BATCH_MOVE_COUNT = 200;
+
     private final ChessGameRepository chessGameRepository;
     private final RoomRepository roomRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ChessService(final ChessGameRepository chessGameRepository, final RoomRepository roomRepository) {
+    public ChessService(final ChessGameRepository chessGameRepository, final RoomRepository roomRepository,
+                        final ApplicationEventPublisher eventPublisher) {
         this.chessGameRepository = chessGameRepository;
         this.roomRepository = roomRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional(readOnly = true)
     public List<ChessPieceDto> findAllPiece(final int roomId) {
         final ChessGame chessGame = chessGameRepository.get(roomId);
         final ChessBoard chessBoard = chessGame.getChessBoard();
@@ -46,30 +60,96 @@ public class ChessService {
                 .collect(Collectors.toList());
     }
 
-    public void move(final int roomId, MoveRequestDto requestDto) {
+    @Transactional(readOnly = true)
+    public ChessBoard findBoard(final int roomId) {
+        final ChessBoard chessBoard = roomRepository.get(roomId)
+                .getChessGame()
+                .getChessBoard();
+        if (chessBoard.findAllPiece().isEmpty()) {
+            throw new NotFoundException("기물이 존재하지 않습니다.");
+        }
+        return chessBoard;
+    }
+
+    @Transactional
+    public MoveResultDto move(final int roomId, MoveRequestDto requestDto) {
         final Room room = roomRepository.get(roomId);
         final ChessGame chessGame = room.getChessGame();
         final Position from = Position.from(requestDto.getFrom());
         final Position to = Position.from(requestDto.getTo());
 
+        final ChessPiece capturedPiece = chessGame.getChessBoard().findPiece(to);
         chessGame.move(from, to);
 
-        roomRepository.update(roomId, room);
         chessGameRepository.update(roomId, from, to);
+        roomRepository.update(roomId, room);
+        final MoveResultDto moveResult = MoveResultDto.of(from, to, capturedPiece, chessGame);
+        eventPublisher.publishEvent(PieceMovedEvent.of(roomId, from, to, room.getVersion(), moveResult));
+        return moveResult;
+    }
+
+    @Transactional
+    public List<MoveResultDto> moveAll(final int roomId, final MoveBatchRequestDto requestDto) {
+        final List<MoveRequestDto> moves = requestDto.getMoves();
+        if (moves == null || moves.isEmpty()) {
+            throw new IllegalArgumentException("요청에 이동할 수가 존재하지 않습니다.");
+        }
+        if (moves.size() > MAX_BATCH_MOVE_COUNT) {
+            throw new IllegalArgumentException("한 번에 요청할 수 있는 이동은 최대 " + MAX_BATCH_MOVE_COUNT + "개입니다.");
+        }
+        final Room room = roomRepository.get(roomId);
+        final ChessGame chessGame = room.getChessGame();
+        final Map<Position, ChessPiece> previousPieceByPosition =
+                new HashMap<>(chessGame.getChessBoard().findAllPiece());
+
+        final List<MoveResultDto> moveResults = new ArrayList<>(moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            moveResults.add(moveInBatch(chessGame, i, moves.get(i)));
+        }
+
+        chessGameRepository.updateBoard(roomId, previousPieceByPosition, chessGame);
+        final int startVersion = room.getVersion();
+        roomRepository.update(roomId, room, moveResults.size());
+        for (int i = 0; i < moveResults.size(); i++) {
+            final MoveResultDto moveResult = moveResults.get(i);
+            eventPublisher.publishEvent(PieceMovedEvent.of(roomId, Position.from(moveResult.getFrom()),
+                    Position.from(moveResult.getTo()), startVersion + i + 1, moveResult));
+        }
+        return moveResults;
+    }
+
+    private MoveResultDto moveInBatch(final ChessGame chessGame, final int moveIndex,
+                                      final MoveRequestDto requestDto) {
+        if (requestDto == null) {
+            throw new IllegalMoveException(moveIndex, "이동 정보가 존재하지 않습니다.");
+        }
+        try {
+            final Position from = Position.from(requestDto.getFrom());
+            final Position to = Position.from(requestDto.getTo());
+            final ChessPiece capturedPiece = chessGame.getChessBoard().findPiece(to);
+            chessGame.move(from, to);
+            return MoveResultDto.of(from, to, capturedPiece, chessGame);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalMoveException(moveIndex, e.getMessage(), e);
+        }
     }
 
+    @Transactional(readOnly = true)
     public Score findScore(final int roomId) {
         final ChessGame chessGame = chessGameRepository.get(roomId);
 
         return chessGame.calculateScore();
     }
 
+    @Transactional
     public EndResult result(final int roomId) {
         final Room room = roomRepository.get(roomId);
         final ChessGame chessGame = room.getChessGame();
 
         final EndResult result = chessGame.end();
         roomRepository.update(roomId, room);
+        eventPublisher.publishEvent(GameStatusChangedEvent.of(
+                roomId, room.getGameStatus(), room.getVersion(), RoomStateDto.of(roomId, room)));
 
         return result;
     }
@@ -0,0 +1,22 @@
+package chess.service;
+
+import chess.repository.FileRoomLog;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("file")
+public class FileRoomLogCompactionScheduler {
+
+    private final FileRoomLog fileRoomLog;
+
+    public FileRoomLogCompactionScheduler(final FileRoomLog fileRoomLog) {
+        this.fileRoomLog = fileRoomLog;
+    }
+
+    @Scheduled(fixedDelayString = "${chess.file.compaction-interval:PT1M}")
+    public void compact() {
+        fileRoomLog.compactIfNeeded();
+    }
+}
@@ -0,0 +1,30 @@
+package chess.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!embedded")
+@ConditionalOnProperty(name = "chess.archive.enabled", havingValue = "true")
+public class GameArchiveScheduler {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final GameArchiveService gameArchiveService;
+
+    public GameArchiveScheduler(final GameArchiveService gameArchiveService) {
+        this.gameArchiveService = gameArchiveService;
+    }
+
+    @Scheduled(fixedDelayString = "${chess.archive.interval:PT10M}")
+    public void archive() {
+        final int archivedCount = gameArchiveService.archiveFinishedGames();
+        if (archivedCount > 0) {
+            logger.info("종료된 게임 {}개를 보관했습니다.", archivedCount);
+        }
+    }
+}
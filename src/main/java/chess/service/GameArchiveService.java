@@ -0,0 +1,74 @@
+package chess.service;
+
+import chess.dao.RoomShardRouter;
+import chess.dto.response.ArchivedGameDto;
+import chess.repository.GameArchiveRepository;
+import chess.repository.RoomCache;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Profile("!embedded")
+public class GameArchiveService {
+
+    private final GameArchiveRepository gameArchiveRepository;
+    private final RoomShardRouter roomShardRouter;
+    private final ObjectProvider<RoomCache> roomCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration finishedAge;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public GameArchiveService(final GameArchiveRepository gameArchiveRepository,
+                              final RoomShardRouter roomShardRouter,
+                              final ObjectProvider<RoomCache> roomCache,
+                              final ApplicationEventPublisher eventPublisher,
+                              @Value("${chess.archive.finished-age:24h}") final Duration finishedAge,
+                              @Value("${chess.archive.batch-size:100}") final int batchSize,
+                              @Value("${chess.archive.max-batches:50}") final int maxBatches) {
+        this.gameArchiveRepository = gameArchiveRepository;
+        this.roomShardRouter = roomShardRouter;
+        this.roomCache = roomCache;
+        this.eventPublisher = eventPublisher;
+        this.finishedAge = finishedAge;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    public int archiveFinishedGames() {
+        final LocalDateTime finishedBefore = LocalDateTime.now().minus(finishedAge);
+        int archivedCount = 0;
+        for (final int shard : roomShardRouter.getShards()) {
+            archivedCount += roomShardRouter.call(shard, () -> archiveFinishedGames(finishedBefore));
+        }
+        return archivedCount;
+    }
+
+    private int archiveFinishedGames(final LocalDateTime finishedBefore) {
+        int archivedCount = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            final List<Integer> roomIds = gameArchiveRepository.archiveFinishedBefore(finishedBefore, batchSize);
+            roomCache.ifAvailable(cache -> roomIds.forEach(cache::remove));
+            if (!roomIds.isEmpty()) {
+                eventPublisher.publishEvent(RoomsRemovedEvent.of(roomIds));
+            }
+            archivedCount += roomIds.size();
+            if (roomIds.size() < batchSize) {
+                break;
+            }
+        }
+        return archivedCount;
+    }
+
+    @Transactional(readOnly = true)
+    public ArchivedGameDto findArchivedGame(final int roomId) {
+        return gameArchiveRepository.get(roomId);
+    }
+}
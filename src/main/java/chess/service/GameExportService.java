@@ -0,0 +1,90 @@
+package chess.service;
+
+import chess.dto.ExportFormat;
+import chess.dto.request.GameExportRequestDto;
+import chess.dto.response.ExportedGameDto;
+import chess.repository.GameExportRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Profile("!embedded")
+public class GameExportService {
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String FEN_FIELD_SEPARATOR = " ";
+    private static final int EPD_FIELD_COUNT = 4;
+
+    private final GameExportRepository gameExportRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public GameExportService(final GameExportRepository gameExportRepository, final ObjectMapper objectMapper,
+                             @Value("${chess.export.fetch-size:500}") final int fetchSize) {
+        this.gameExportRepository = gameExportRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(final ExportFormat format, final GameExportRequestDto request,
+                       final OutputStream outputStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            gameExportRepository.forEach(request, fetchSize, exportedGame -> write(format, exportedGame, writer));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void write(final ExportFormat format, final ExportedGameDto exportedGame, final Writer writer) {
+        try {
+            if (format == ExportFormat.EPD) {
+                writeEpd(exportedGame, writer);
+                return;
+            }
+            writeNdjson(exportedGame, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeNdjson(final ExportedGameDto exportedGame, final Writer writer) throws IOException {
+        try {
+            writer.write(objectMapper.writeValueAsString(exportedGame));
+        } catch (JsonProcessingException e) {
+            throw new IOException("게임을 내보낼 수 없습니다.", e);
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeEpd(final ExportedGameDto exportedGame, final Writer writer) throws IOException {
+        final String[] fenFields = exportedGame.getFen().split(FEN_FIELD_SEPARATOR);
+        writer.write(String.join(FEN_FIELD_SEPARATOR, Arrays.copyOf(fenFields, EPD_FIELD_COUNT)));
+        writeOperation(writer, "id", String.valueOf(exportedGame.getRoomId()));
+        writeOperation(writer, "c0", exportedGame.getRoomName());
+        writeOperation(writer, "c1", exportedGame.getResult());
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeOperation(final Writer writer, final String opcode, final String value) throws IOException {
+        writer.write(' ');
+        writer.write(opcode);
+        writer.write(" \"");
+        writer.write(value.replace("\\", "\\\\").replace("\"", "\\\""));
+        writer.write("\";");
+    }
+}
@@ -0,0 +1,41 @@
+package chess.service;
+
+import chess.domain.GameStatus;
+import chess.dto.response.RoomStateDto;
+
+public class GameStatusChangedEvent {
+
+    private final int roomId;
+    private final GameStatus gameStatus;
+    private final int version;
+    private final RoomStateDto roomState;
+
+    private GameStatusChangedEvent(final int roomId, final GameStatus gameStatus, final int version,
+                                   final RoomStateDto roomState) {
+        this.roomId = roomId;
+        this.gameStatus = gameStatus;
+        this.version = version;
+        this.roomState = roomState;
+    }
+
+    public static GameStatusChangedEvent of(final int roomId, final GameStatus gameStatus, final int version,
+                                            final RoomStateDto roomState) {
+        return new GameStatusChangedEvent(roomId, gameStatus, version, roomState);
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public GameStatus getGameStatus() {
+        return gameStatus;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public RoomStateDto getRoomState() {
+        return roomState;
+    }
+}
@@ -0,0 +1,22 @@
+package chess.service;
+
+import chess.repository.MemoryRoomStore;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("memory")
+public class MemorySnapshotScheduler {
+
+    private final MemoryRoomStore memoryRoomStore;
+
+    public MemorySnapshotScheduler(final MemoryRoomStore memoryRoomStore) {
+        this.memoryRoomStore = memoryRoomStore;
+    }
+
+    @Scheduled(fixedDelayString = "${chess.memory.snapshot-interval:PT30S}")
+    public void saveSnapshot() {
+        memoryRoomStore.saveSnapshot();
+    }
+}
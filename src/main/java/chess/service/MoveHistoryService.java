@@ -0,0 +1,81 @@
+package chess.service;
+
+import chess.domain.position.MoveCodec;
+import chess.domain.position.PackedMoveHistory;
+import chess.domain.position.Position;
+import chess.dto.response.MoveDto;
+import chess.repository.MoveHistoryRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@Profile("!embedded")
+public class MoveHistoryService {
+
+    private static final Object PENDING_MOVES_KEY = new Object();
+
+    private final MoveHistoryRepository moveHistoryRepository;
+
+    public MoveHistoryService(final MoveHistoryRepository moveHistoryRepository) {
+        this.moveHistoryRepository = moveHistoryRepository;
+    }
+
+    @EventListener
+    public void record(final PieceMovedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            final PackedMoveHistory moves = PackedMoveHistory.empty();
+            moves.append(event.getFrom(), event.getTo());
+            moveHistoryRepository.appendAll(event.getRoomId(), moves);
+            return;
+        }
+        pendingMovesByRoomId().computeIfAbsent(event.getRoomId(), ignored -> PackedMoveHistory.empty())
+                .append(event.getFrom(), event.getTo());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Integer, PackedMoveHistory> pendingMovesByRoomId() {
+        final Map<Integer, PackedMoveHistory> boundMoves =
+                (Map<Integer, PackedMoveHistory>) TransactionSynchronizationManager.getResource(PENDING_MOVES_KEY);
+        if (boundMoves != null) {
+            return boundMoves;
+        }
+        final Map<Integer, PackedMoveHistory> pendingMoves = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_MOVES_KEY, pendingMoves);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                pendingMoves.forEach(moveHistoryRepository::appendAll);
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_MOVES_KEY);
+            }
+        });
+        return pendingMoves;
+    }
+
+    @Transactional(readOnly = true)
+    public List<MoveDto> findMoves(final int roomId, final int fromPly) {
+        final PackedMoveHistory moveHistory = moveHistoryRepository.get(roomId);
+        final List<Integer> codes = moveHistory.codesFrom(Math.min(fromPly, moveHistory.size()));
+        final List<MoveDto> moves = new ArrayList<>(codes.size());
+        int ply = moveHistory.size() - codes.size();
+        for (final int code : codes) {
+            moves.add(MoveDto.of(
+                    ply++,
+                    Position.fromIndex(MoveCodec.fromIndex(code)),
+                    Position.fromIndex(MoveCodec.toIndex(code))
+            ));
+        }
+        return moves;
+    }
+}
@@ -0,0 +1,152 @@
+package chess.service;
+
+import chess.config.PrimaryRoutingContext;
+import chess.dto.response.RoomStateDto;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+public class NextMoveNotifier implements Closeable {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final long timeoutMillis;
+    private final ExecutorService completionExecutor;
+    private final Map<Integer, Set<Waiter>> waitersByRoomId = new ConcurrentHashMap<>();
+
+    public NextMoveNotifier(final Duration timeout, final ExecutorService completionExecutor) {
+        this.timeoutMillis = timeout.toMillis();
+        this.completionExecutor = completionExecutor;
+    }
+
+    public DeferredResult<ResponseEntity<RoomStateDto>> await(final int roomId, final int since,
+                                                              final IntSupplier currentVersion,
+                                                              final Supplier<RoomStateDto> state) {
+        final DeferredResult<ResponseEntity<RoomStateDto>> result = new DeferredResult<>(
+                timeoutMillis,
+                () -> ResponseEntity.noContent().eTag(String.valueOf(since)).build()
+        );
+        final Waiter waiter = new Waiter(roomId, since, result, state);
+        waitersByRoomId.compute(roomId, (ignored, waiters) -> {
+            final Set<Waiter> roomWaiters = waiters == null ? ConcurrentHashMap.newKeySet() : waiters;
+            roomWaiters.add(waiter);
+            return roomWaiters;
+        });
+        result.onCompletion(() -> remove(waiter));
+        try {
+            final int version = currentVersion.getAsInt();
+            if (version > since) {
+                remove(waiter);
+                result.setResult(toResponse(version, state.get()));
+            }
+        } catch (RuntimeException e) {
+            remove(waiter);
+            throw e;
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPieceMoved(final PieceMovedEvent event) {
+        wake(event.getRoomId(), event.getVersion(), null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatusChanged(final GameStatusChangedEvent event) {
+        wake(event.getRoomId(), event.getVersion(), event.getRoomState());
+    }
+
+    private void wake(final int roomId, final int version, final RoomStateDto changedState) {
+        final Set<Waiter> roomWaiters = waitersByRoomId.get(roomId);
+        if (roomWaiters == null) {
+            return;
+        }
+        final List<Waiter> waiters = roomWaiters.stream()
+                .filter(waiter -> waiter.since < version)
+                .collect(Collectors.toList());
+        if (waiters.isEmpty()) {
+            return;
+        }
+        waiters.forEach(this::remove);
+        try {
+            completionExecutor.execute(() -> complete(waiters, version, changedState));
+        } catch (RejectedExecutionException e) {
+            logger.warn("다음 수 대기 요청을 완료하지 못했습니다. roomId={}", roomId);
+            waiters.forEach(waiter -> waiter.result.setErrorResult(e));
+        }
+    }
+
+    private void complete(final List<Waiter> waiters, final int version, final RoomStateDto changedState) {
+        try {
+            final RoomStateDto state = changedState == null ? loadFromPrimary(waiters.get(0).state) : changedState;
+            final ResponseEntity<RoomStateDto> response = toResponse(version, state);
+            waiters.forEach(waiter -> waiter.result.setResult(response));
+        } catch (RuntimeException e) {
+            waiters.forEach(waiter -> waiter.result.setErrorResult(e));
+        }
+    }
+
+    private RoomStateDto loadFromPrimary(final Supplier<RoomStateDto> state) {
+        PrimaryRoutingContext.pin();
+        try {
+            return state.get();
+        } finally {
+            PrimaryRoutingContext.clear();
+        }
+    }
+
+    private ResponseEntity<RoomStateDto> toResponse(final int version, final RoomStateDto state) {
+        final int stateVersion = state == null ? version : Math.max(version, state.getVersion());
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(stateVersion))
+                .cacheControl(CacheControl.noCache())
+                .body(state);
+    }
+
+    private void remove(final Waiter waiter) {
+        waitersByRoomId.computeIfPresent(waiter.roomId, (ignored, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    public int getWaiterCount(final int roomId) {
+        final Set<Waiter> waiters = waitersByRoomId.get(roomId);
+        return waiters == null ? 0 : waiters.size();
+    }
+
+    @Override
+    public void close() {
+        completionExecutor.shutdownNow();
+        waitersByRoomId.clear();
+    }
+
+    private static class Waiter {
+
+        private final int roomId;
+        private final int since;
+        private final DeferredResult<ResponseEntity<RoomStateDto>> result;
+        private final Supplier<RoomStateDto> state;
+
+        private Waiter(final int roomId, final int since, final DeferredResult<ResponseEntity<RoomStateDto>> result,
+                       final Supplier<RoomStateDto> state) {
+            this.roomId = roomId;
+            this.since = since;
+            this.result = result;
+            this.state = state;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package chess.service;
+
+import chess.domain.position.Position;
+import chess.dto.response.MoveResultDto;
+
+public class PieceMovedEvent {
+
+    private final int roomId;
+    private final Position from;
+    private final Position to;
+    private final int version;
+    private final MoveResultDto moveResult;
+
+    private PieceMovedEvent(final int roomId, final Position from, final Position to, final int version,
+                            final MoveResultDto moveResult) {
+        this.roomId = roomId;
+        this.from = from;
+        this.to = to;
+        this.version = version;
+        this.moveResult = moveResult;
+    }
+
+    public static PieceMovedEvent of(final int roomId, final Position from, final Position to, final int version,
+                                     final MoveResultDto moveResult) {
+        return new PieceMovedEvent(roomId, from, to, version, moveResult);
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public Position getFrom() {
+        return from;
+    }
+
+    public Position getTo() {
+        return to;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public MoveResultDto getMoveResult() {
+        return moveResult;
+    }
+}
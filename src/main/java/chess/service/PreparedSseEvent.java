@@ -0,0 +1,35 @@
+package chess.service;
+
+import java.util.Collections;
+import java.util.Set;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class PreparedSseEvent {
+
+    private static final int NO_VERSION = -1;
+
+    private final Set<DataWithMediaType> data;
+    private final int version;
+
+    private PreparedSseEvent(final Set<DataWithMediaType> data, final int version) {
+        this.data = data;
+        this.version = version;
+    }
+
+    static PreparedSseEvent from(final SseEventBuilder builder) {
+        return from(builder, NO_VERSION);
+    }
+
+    static PreparedSseEvent from(final SseEventBuilder builder, final int version) {
+        return new PreparedSseEvent(Collections.unmodifiableSet(builder.build()), version);
+    }
+
+    boolean isNotNewerThan(final int version) {
+        return this.version != NO_VERSION && this.version <= version;
+    }
+
+    Set<DataWithMediaType> getData() {
+        return data;
+    }
+}
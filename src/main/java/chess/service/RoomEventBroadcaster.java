@@ -0,0 +1,322 @@
+package chess.service;
+
+import chess.domain.GameStatus;
+import chess.dto.response.RoomStateDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+public class RoomEventBroadcaster implements Closeable {
+
+    private static final String STATE_EVENT = "state";
+    private static final String MOVE_EVENT = "move";
+    private static final String START_EVENT = "start";
+    private static final String END_EVENT = "end";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+    private static final int IDLE = 0;
+    private static final int SENDING = 1;
+    private static final int STALLED = 2;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int maxStalledThreads;
+    private final ThreadPoolExecutor dispatchExecutor;
+    private final Map<Integer, Set<Subscriber>> subscribersByRoomId = new ConcurrentHashMap<>();
+    private int stalledThreads;
+
+    public RoomEventBroadcaster(final ObjectMapper objectMapper, final int bufferSize, final Duration timeout,
+                                final Duration sendTimeout, final int maxStalledThreads,
+                                final ThreadPoolExecutor dispatchExecutor) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("이벤트 버퍼 크기는 1 이상이어야 합니다.");
+        }
+        if (maxStalledThreads < 0) {
+            throw new IllegalArgumentException("추가 전송 스레드 수는 0 이상이어야 합니다.");
+        }
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.maxStalledThreads = maxStalledThreads;
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    public RoomEventEmitter subscribe(final int roomId, final Supplier<RoomStateDto> initialState) {
+        final RoomEventEmitter emitter = new RoomEventEmitter(timeoutMillis);
+        final Subscriber subscriber = new Subscriber(roomId, emitter);
+        subscribersByRoomId.compute(roomId, (ignored, subscribers) -> {
+            final Set<Subscriber> roomSubscribers = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            roomSubscribers.add(subscriber);
+            return roomSubscribers;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        try {
+            final RoomStateDto state = initialState.get();
+            subscriber.start(prepare(SseEmitter.event()
+                    .id(String.valueOf(state.getVersion()))
+                    .name(STATE_EVENT)
+                    .data(toJson(state), MediaType.APPLICATION_JSON)), state.getVersion());
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPieceMoved(final PieceMovedEvent event) {
+        broadcast(event.getRoomId(), MOVE_EVENT, event.getVersion(), event.getMoveResult());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatusChanged(final GameStatusChangedEvent event) {
+        final String eventName = event.getGameStatus() == GameStatus.PLAYING ? START_EVENT : END_EVENT;
+        broadcast(event.getRoomId(), eventName, event.getVersion(), event.getRoomState());
+    }
+
+    private void broadcast(final int roomId, final String eventName, final int version, final Object payload) {
+        final Set<Subscriber> subscribers = subscribersByRoomId.get(roomId);
+        if (subscribers == null) {
+            return;
+        }
+        final PreparedSseEvent event = prepare(SseEmitter.event()
+                .id(String.valueOf(version))
+                .name(eventName)
+                .data(toJson(payload), MediaType.APPLICATION_JSON), version);
+        subscribers.forEach(subscriber -> deliver(subscriber, event));
+    }
+
+    @Scheduled(fixedDelayString = "${chess.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        if (subscribersByRoomId.isEmpty()) {
+            return;
+        }
+        final PreparedSseEvent event = prepare(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+        subscribersByRoomId.values()
+                .forEach(subscribers -> subscribers.forEach(subscriber -> deliver(subscriber, event)));
+    }
+
+    @Scheduled(fixedDelayString = "${chess.events.stall-check-interval:PT1S}")
+    public void evictStalled() {
+        final long now = System.nanoTime();
+        subscribersByRoomId.values()
+                .forEach(subscribers -> subscribers.stream()
+                        .filter(subscriber -> subscriber.isStalled(now))
+                        .forEach(this::giveUp));
+    }
+
+    private void giveUp(final Subscriber subscriber) {
+        if (!subscriber.sendState.compareAndSet(SENDING, STALLED)) {
+            return;
+        }
+        logger.info("이벤트 전송이 멈춘 구독자의 연결을 끊습니다. roomId={}", subscriber.roomId);
+        remove(subscriber);
+        subscriber.buffer.clear();
+        replaceStalledThread(subscriber);
+        subscriber.interruptSend();
+    }
+
+    private synchronized void replaceStalledThread(final Subscriber subscriber) {
+        if (subscriber.sendState.get() != STALLED || stalledThreads >= maxStalledThreads) {
+            return;
+        }
+        stalledThreads++;
+        subscriber.replaced = true;
+        dispatchExecutor.setMaximumPoolSize(dispatchExecutor.getMaximumPoolSize() + 1);
+        dispatchExecutor.setCorePoolSize(dispatchExecutor.getCorePoolSize() + 1);
+    }
+
+    private synchronized void releaseStalledThread(final Subscriber subscriber) {
+        if (!subscriber.replaced) {
+            return;
+        }
+        stalledThreads--;
+        subscriber.replaced = false;
+        dispatchExecutor.setCorePoolSize(dispatchExecutor.getCorePoolSize() - 1);
+        dispatchExecutor.setMaximumPoolSize(dispatchExecutor.getMaximumPoolSize() - 1);
+    }
+
+    private void deliver(final Subscriber subscriber, final PreparedSseEvent event) {
+        if (subscriber.offer(event)) {
+            return;
+        }
+        logger.info("이벤트를 제때 받지 못한 구독자의 연결을 끊습니다. roomId={}", subscriber.roomId);
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private PreparedSseEvent prepare(final SseEventBuilder builder) {
+        return PreparedSseEvent.from(builder);
+    }
+
+    private PreparedSseEvent prepare(final SseEventBuilder builder, final int version) {
+        return PreparedSseEvent.from(builder, version);
+    }
+
+    private String toJson(final Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private void remove(final Subscriber subscriber) {
+        subscribersByRoomId.computeIfPresent(subscriber.roomId, (ignored, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    public int getSubscriberCount(final int roomId) {
+        final Set<Subscriber> subscribers = subscribersByRoomId.get(roomId);
+        if (subscribers == null) {
+            return 0;
+        }
+        return subscribers.size();
+    }
+
+    @Override
+    public void close() {
+        dispatchExecutor.shutdownNow();
+        subscribersByRoomId.values()
+                .forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribersByRoomId.clear();
+    }
+
+    private class Subscriber {
+
+        private final int roomId;
+        private final RoomEventEmitter emitter;
+        private final Queue<PreparedSseEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger sendState = new AtomicInteger(IDLE);
+        private volatile PreparedSseEvent initialEvent;
+        private volatile int initialVersion;
+        private volatile boolean started;
+        private volatile long sendStartedNanos;
+        private Thread sendingThread;
+        private boolean replaced;
+
+        private Subscriber(final int roomId, final RoomEventEmitter emitter) {
+            this.roomId = roomId;
+            this.emitter = emitter;
+        }
+
+        private void start(final PreparedSseEvent initialEvent, final int initialVersion) {
+            this.initialEvent = initialEvent;
+            this.initialVersion = initialVersion;
+            started = true;
+            scheduleDrain();
+        }
+
+        private boolean offer(final PreparedSseEvent event) {
+            if (!buffer.offer(event)) {
+                return false;
+            }
+            if (started) {
+                scheduleDrain();
+            }
+            return true;
+        }
+
+        private boolean isStalled(final long now) {
+            return sendState.get() == SENDING && now - sendStartedNanos > sendTimeoutNanos;
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatchExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            final PreparedSseEvent pendingInitialEvent = initialEvent;
+            if (pendingInitialEvent != null) {
+                initialEvent = null;
+                if (!send(pendingInitialEvent)) {
+                    return;
+                }
+            }
+            PreparedSseEvent event;
+            while ((event = buffer.poll()) != null) {
+                if (event.isNotNewerThan(initialVersion)) {
+                    continue;
+                }
+                if (!send(event)) {
+                    return;
+                }
+            }
+            draining.set(false);
+            if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private boolean send(final PreparedSseEvent event) {
+            startSend();
+            boolean sent = false;
+            try {
+                emitter.send(event.getData());
+                sent = true;
+            } catch (IOException | IllegalStateException e) {
+                buffer.clear();
+                remove(this);
+            } finally {
+                finishSend();
+            }
+            if (sendState.getAndSet(IDLE) == STALLED) {
+                releaseStalledThread(this);
+                emitter.complete();
+                return false;
+            }
+            return sent;
+        }
+
+        private synchronized void startSend() {
+            sendingThread = Thread.currentThread();
+            sendStartedNanos = System.nanoTime();
+            sendState.set(SENDING);
+        }
+
+        private synchronized void finishSend() {
+            sendingThread = null;
+            Thread.interrupted();
+        }
+
+        private synchronized void interruptSend() {
+            if (sendingThread != null) {
+                sendingThread.interrupt();
+            }
+        }
+    }
+}
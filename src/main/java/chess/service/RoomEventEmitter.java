@@ -0,0 +1,33 @@
+package chess.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+public class RoomEventEmitter extends ResponseBodyEmitter {
+
+    private static final MediaType TEXT_EVENT_STREAM = new MediaType("text", "event-stream", StandardCharsets.UTF_8);
+
+    RoomEventEmitter(final long timeoutMillis) {
+        super(timeoutMillis);
+    }
+
+    @Override
+    protected void extendResponse(final ServerHttpResponse outputMessage) {
+        super.extendResponse(outputMessage);
+        final HttpHeaders headers = outputMessage.getHeaders();
+        if (headers.getContentType() == null) {
+            headers.setContentType(TEXT_EVENT_STREAM);
+        }
+    }
+
+    synchronized void send(final Set<DataWithMediaType> items) throws IOException {
+        for (final DataWithMediaType item : items) {
+            send(item.getData(), item.getMediaType());
+        }
+    }
+}
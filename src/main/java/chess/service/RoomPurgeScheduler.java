@@ -0,0 +1,23 @@
+package chess.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!embedded")
+@ConditionalOnProperty(name = "chess.purge.enabled", havingValue = "true")
+public class RoomPurgeScheduler {
+
+    private final RoomPurgeService roomPurgeService;
+
+    public RoomPurgeScheduler(final RoomPurgeService roomPurgeService) {
+        this.roomPurgeService = roomPurgeService;
+    }
+
+    @Scheduled(fixedDelayString = "${chess.purge.interval:PT1H}")
+    public void purge() {
+        roomPurgeService.purgeDeletedRooms();
+    }
+}
@@ -0,0 +1,107 @@
+package chess.service;
+
+import chess.dao.RoomShardRouter;
+import chess.repository.RoomPurgeRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+@Service
+@Profile("!embedded")
+public class RoomPurgeService implements MeterBinder {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final RoomPurgeRepository roomPurgeRepository;
+    private final RoomShardRouter roomShardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration pause;
+    private final AtomicLong purgedRowCount = new AtomicLong();
+    private volatile double lastRowsPerSecond;
+
+    public RoomPurgeService(final RoomPurgeRepository roomPurgeRepository,
+                            final RoomShardRouter roomShardRouter,
+                            final ApplicationEventPublisher eventPublisher,
+                            @Value("${chess.purge.retention:7d}") final Duration retention,
+                            @Value("${chess.purge.batch-size:50}") final int batchSize,
+                            @Value("${chess.purge.pause:200ms}") final Duration pause) {
+        this.roomPurgeRepository = roomPurgeRepository;
+        this.roomShardRouter = roomShardRouter;
+        this.eventPublisher = eventPublisher;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    public int purgeDeletedRooms() {
+        final LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+        final long startTime = System.nanoTime();
+        int purgedRows = 0;
+        for (final int shard : roomShardRouter.getShards()) {
+            purgedRows += roomShardRouter.call(shard, () -> purgeDeletedRooms(deletedBefore));
+        }
+
+        report(purgedRows, System.nanoTime() - startTime);
+        return purgedRows;
+    }
+
+    private int purgeDeletedRooms(final LocalDateTime deletedBefore) {
+        int lastRoomId = 0;
+        int purgedRows = 0;
+
+        List<Integer> roomIds = roomPurgeRepository.findDeletedRoomIds(lastRoomId, deletedBefore, batchSize);
+        while (!roomIds.isEmpty()) {
+            purgedRows += roomPurgeRepository.purge(roomIds);
+            eventPublisher.publishEvent(RoomsRemovedEvent.of(roomIds));
+            lastRoomId = roomIds.get(roomIds.size() - 1);
+            if (roomIds.size() < batchSize || !pauseBetweenBatches()) {
+                break;
+            }
+            roomIds = roomPurgeRepository.findDeletedRoomIds(lastRoomId, deletedBefore, batchSize);
+        }
+        return purgedRows;
+    }
+
+    private boolean pauseBetweenBatches() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void report(final int purgedRows, final long elapsedNanos) {
+        if (purgedRows == 0) {
+            return;
+        }
+        purgedRowCount.addAndGet(purgedRows);
+        lastRowsPerSecond = purgedRows / (elapsedNanos / NANOS_PER_SECOND);
+        logger.info("삭제된 방 데이터 {}행을 정리했습니다. ({} rows/s)", purgedRows,
+                String.format("%.1f", lastRowsPerSecond));
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("chess.purge.rows", purgedRowCount, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("chess.purge.rows.per.second", this, it -> it.lastRowsPerSecond)
+                .register(registry);
+    }
+}
@@ -3,46 +3,98 @@ package chess.service;
 import chess.domain.room.Room;
 import chess.dto.request.RoomCreationRequestDto;
 import chess.dto.request.RoomDeletionRequestDto;
+import chess.dto.request.RoomStatesRequestDto;
 import chess.dto.response.CurrentTurnDto;
+import chess.dto.response.RoomCursorPageDto;
 import chess.dto.response.RoomPageDto;
+import chess.dto.response.RoomStateDto;
 import chess.repository.ChessGameRepository;
 import chess.repository.RoomRepository;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class RoomService {
 
+    private static final int MAX_STATE_ROOM_COUNT = 200;
+
     private final RoomRepository roomRepository;
     private final ChessGameRepository chessGameRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public RoomService(final RoomRepository roomRepository, final ChessGameRepository chessGameRepository) {
+    public RoomService(final RoomRepository roomRepository, final ChessGameRepository chessGameRepository,
+                       final ApplicationEventPublisher eventPublisher) {
         this.roomRepository = roomRepository;
         this.chessGameRepository = chessGameRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional(readOnly = true)
     public RoomPageDto findAll(final int page, final int size) {
         return roomRepository.getAll(page, size);
     }
 
+    @Transactional(readOnly = true)
+    public RoomCursorPageDto findAllAfter(final int cursor, final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        return roomRepository.getAllAfter(cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public int findVersion(final int roomId) {
+        return roomRepository.get(roomId).getVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public RoomStateDto findState(final int roomId) {
+        return RoomStateDto.of(roomId, roomRepository.get(roomId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoomStateDto> findStates(final RoomStatesRequestDto dto) {
+        final List<Integer> roomIds = dto.getRoomIds();
+        if (roomIds == null || roomIds.isEmpty()) {
+            return List.of();
+        }
+        if (roomIds.size() > MAX_STATE_ROOM_COUNT) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 방은 최대 " + MAX_STATE_ROOM_COUNT + "개입니다.");
+        }
+        return roomRepository.getAllByIds(roomIds)
+                .entrySet()
+                .stream()
+                .map(entry -> RoomStateDto.of(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
     public int createRoom(final RoomCreationRequestDto dto) {
         final Room room = new Room(dto.getRoomName(), dto.getPassword());
         return roomRepository.add(room);
     }
 
+    @Transactional
     public void startGame(final int roomId) {
         final Room room = roomRepository.get(roomId);
         room.startGame();
-        roomRepository.update(roomId, room);
         chessGameRepository.add(roomId, room.getChessGame());
+        roomRepository.update(roomId, room);
+        eventPublisher.publishEvent(GameStatusChangedEvent.of(
+                roomId, room.getGameStatus(), room.getVersion(), RoomStateDto.of(roomId, room)));
     }
 
     public void deleteRoom(final RoomDeletionRequestDto dto) {
         final Room room = roomRepository.get(dto.getRoomId());
         if (room.canRemove(dto.getPassword())) {
             roomRepository.remove(dto.getRoomId());
+            eventPublisher.publishEvent(RoomsRemovedEvent.of(List.of(dto.getRoomId())));
         }
     }
 
+    @Transactional(readOnly = true)
     public CurrentTurnDto findCurrentTurn(final int roomId) {
         final Room room = roomRepository.get(roomId);
         return CurrentTurnDto.of(room.getName(), room.getCurrentTurn());
@@ -0,0 +1,34 @@
+package chess.service;
+
+public class RoomSnapshot {
+
+    private final int version;
+    private final byte[] state;
+    private final byte[] pieces;
+
+    private RoomSnapshot(final int version, final byte[] state, final byte[] pieces) {
+        this.version = version;
+        this.state = state;
+        this.pieces = pieces;
+    }
+
+    public static RoomSnapshot of(final int version, final byte[] state, final byte[] pieces) {
+        return new RoomSnapshot(version, state, pieces);
+    }
+
+    public boolean hasPieces() {
+        return pieces.length > 0;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public byte[] getState() {
+        return state;
+    }
+
+    public byte[] getPieces() {
+        return pieces;
+    }
+}
@@ -0,0 +1,105 @@
+package chess.service;
+
+import chess.dto.response.RoomStateDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class RoomSnapshotService {
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final RoomService roomService;
+    private final ObjectMapper objectMapper;
+    private final Map<Integer, Slot> slotByRoomId;
+
+    public RoomSnapshotService(final RoomService roomService, final ObjectMapper objectMapper,
+                               @Value("${chess.snapshot.max-size:10000}") final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("스냅샷 캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.roomService = roomService;
+        this.objectMapper = objectMapper;
+        this.slotByRoomId = new LinkedHashMap<>(16, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, Slot> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public RoomSnapshot find(final int roomId, final int version) {
+        final Slot slot;
+        synchronized (slotByRoomId) {
+            slot = slotByRoomId.computeIfAbsent(roomId, ignored -> new Slot());
+        }
+        final RoomSnapshot snapshot = slot.snapshot;
+        if (snapshot != null && snapshot.getVersion() >= version) {
+            return snapshot;
+        }
+        synchronized (slot) {
+            final RoomSnapshot current = slot.snapshot;
+            if (current != null && current.getVersion() >= version) {
+                return current;
+            }
+            try {
+                final RoomSnapshot created = create(roomId);
+                slot.snapshot = created;
+                return created;
+            } catch (RuntimeException e) {
+                if (current == null) {
+                    remove(roomId, slot);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private RoomSnapshot create(final int roomId) {
+        final RoomStateDto state = roomService.findState(roomId);
+        try {
+            final byte[] pieces = state.getPieces().isEmpty()
+                    ? EMPTY
+                    : objectMapper.writeValueAsBytes(state.getPieces());
+            return RoomSnapshot.of(state.getVersion(), objectMapper.writeValueAsBytes(state), pieces);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방의 상태를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomsRemoved(final RoomsRemovedEvent event) {
+        synchronized (slotByRoomId) {
+            event.getRoomIds().forEach(slotByRoomId::remove);
+        }
+    }
+
+    private void remove(final int roomId, final Slot slot) {
+        synchronized (slotByRoomId) {
+            slotByRoomId.remove(roomId, slot);
+        }
+    }
+
+    public void clear() {
+        synchronized (slotByRoomId) {
+            slotByRoomId.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (slotByRoomId) {
+            return slotByRoomId.size();
+        }
+    }
+
+    private static class Slot {
+
+        private volatile RoomSnapshot snapshot;
+    }
+}
@@ -0,0 +1,20 @@
+package chess.service;
+
+import java.util.List;
+
+public class RoomsRemovedEvent {
+
+    private final List<Integer> roomIds;
+
+    private RoomsRemovedEvent(final List<Integer> roomIds) {
+        this.roomIds = roomIds;
+    }
+
+    public static RoomsRemovedEvent of(final List<Integer> roomIds) {
+        return new RoomsRemovedEvent(List.copyOf(roomIds));
+    }
+
+    public List<Integer> getRoomIds() {
+        return roomIds;
+    }
+}
@@ -1,8 +1,7 @@
 let from = "";
 
-fetchPieces();
-fetchScores();
-fetchTurn();
+fetchState();
+subscribeEvents();
 
 chessBoard.addEventListener("click", ({target: {id}}) => {
     if (from === "") {
@@ -19,21 +18,37 @@ async function move(from, to) {
 
     const res = await fetch(`${pathName}/pieces`, {
         headers: {
-            'Content-Type': 'application/json'
+            'Content-Type': 'application/json',
+            'Prefer': 'return=representation'
         },
         method: "PATCH",
         body: JSON.stringify({from: `${from}`, to: `${to}`})
     });
 
-    if (res.status !== 204) {
-        const data = await res.json();
+    const data = await res.json();
+    if (!res.ok) {
         document.getElementById("error").innerText = data.message;
         return;
     }
 
-    fetchPieces();
-    fetchScores();
-    fetchTurn();
+    renderMove(data);
+}
+
+function subscribeEvents() {
+    const pathName = window.location.pathname;
+    const events = new EventSource(`${pathName}/events`);
+
+    events.addEventListener("move", ({data}) => renderMove(JSON.parse(data)));
+    ["state", "start", "end"].forEach(eventName =>
+        events.addEventListener(eventName, ({data}) => renderState(JSON.parse(data))));
+}
+
+function renderMove(data) {
+    clearSquare(data.from);
+    clearSquare(data.to);
+    renderPieces([data.movedPiece]);
+    renderScores(data);
+    renderTurn(data.currentTurn);
 }
 
 async function startGame() {
@@ -49,9 +64,7 @@ async function startGame() {
 
     errorElement.innerText = null;
 
-    fetchPieces();
-    fetchScores();
-    fetchTurn();
+    fetchState();
 }
 
 async function endGame() {
@@ -80,14 +93,29 @@ async function endGame() {
     element.style.visibility = "visible";
 }
 
-async function fetchPieces() {
+async function fetchState() {
     const pathName = window.location.pathname;
-    clearBoard();
 
-    const res = await fetch(`${pathName}/pieces`);
-    const datas = await res.json();
+    const res = await fetch(`${pathName}/state`);
+    const data = await res.json();
+
+    if (!res.ok) {
+        document.getElementById("error").innerText = data.message;
+        return;
+    }
+
+    renderState(data);
+}
+
+function renderState(data) {
+    clearBoard();
+    renderPieces(data.pieces);
+    renderScores(data);
+    renderTurn(data.currentTurn);
+}
 
-    datas.forEach(data => {
+function renderPieces(pieces) {
+    pieces.forEach(data => {
         const element = document.getElementById(data.position);
         const img = document.createElement("img");
         img.src = `/images/${data.pieceType}_${data.color.toLocaleLowerCase()}.png`;
@@ -98,34 +126,18 @@ async function fetchPieces() {
     });
 }
 
-
-async function fetchScores() {
-    const pathName = window.location.pathname;
-
-    const res = await fetch(`${pathName}/scores`);
-    const data = await res.json();
-
-    if (!res.ok) {
-        document.getElementById("error").innerText = data.message;
-        return;
-    }
-
+function renderScores(data) {
     document.getElementById('whiteScore').innerText = `WHITE 점수 : ${data.whiteScore}`;
     document.getElementById('blackScore').innerText = `BLACK 점수 : ${data.blackScore}`;
 }
 
-async function fetchTurn() {
-    const pathName = window.location.pathname;
-
-    let res = await fetch(`${pathName}/turn`);
-    res = await res.json();
-
+function renderTurn(currentTurn) {
     const turns = document.getElementById("turn");
     for (let i = 0; i < 2; i++) {
         turns.children[i].style.boxShadow = "none";
     }
-    const currentTurn = document.getElementById(res.currentTurn.toLowerCase() + "_turn");
-    currentTurn.style.boxShadow = "0 0 10px 2px darkred";
+    const turn = document.getElementById(currentTurn.toLowerCase() + "_turn");
+    turn.style.boxShadow = "0 0 10px 2px darkred";
 }
 
 function clearBoard() {
@@ -133,4 +145,8 @@ function clearBoard() {
     for (let i = 0; i < chessBoard.children.length; i++) {
         chessBoard.children[i].innerHTML = `<div id=${chessBoard.children[i].id}></div>`
     }
-}
\ No newline at end of file
+}
+
+function clearSquare(position) {
+    document.getElementById(position).innerHTML = `<div id=${position}></div>`;
+}
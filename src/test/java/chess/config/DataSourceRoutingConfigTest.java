@@ -0,0 +1,104 @@
+package chess.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.dao.RoomDao;
+import chess.domain.GameStatus;
+import chess.domain.chesspiece.Color;
+import chess.dto.request.RoomCreationRequestDto;
+import chess.dto.response.RoomResponseDto;
+import chess.entity.RoomEntity;
+import chess.service.RoomService;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(properties = {
+        "chess.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "chess.datasource.replica.username=sa"
+})
+@Sql({"/schema.sql"})
+class DataSourceRoutingConfigTest {
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private RoomDao roomDao;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void setUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(replicaDataSource);
+        roomDao.save(new RoomEntity("primary", GameStatus.READY, Color.WHITE, "1234"));
+        new JdbcTemplate(replicaDataSource).update(
+                "INSERT INTO room (room_id, name, game_status, current_turn, password) VALUES (?, ?, ?, ?, ?)",
+                1, "replica", GameStatus.READY.getValue(), Color.WHITE.getValue(), "1234");
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 조회는 replica 에서 읽는다.")
+    void readOnly_replica() {
+        // when
+        final List<String> actual = findAllRoomNames();
+
+        // then
+        assertThat(actual).containsExactly("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기는 primary 에 반영된다.")
+    void write_primary() {
+        // when
+        roomService.createRoom(new RoomCreationRequestDto("new", "1234"));
+
+        // then
+        final Integer primaryCount = new JdbcTemplate(primaryDataSource)
+                .queryForObject("SELECT COUNT(*) FROM room", Integer.class);
+        assertThat(primaryCount).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최근에 쓰기를 한 요청은 primary 에서 읽는다.")
+    void pinned_primary() {
+        // given
+        PrimaryRoutingContext.pin();
+
+        // when
+        final List<String> actual = findAllRoomNames();
+
+        // then
+        assertThat(actual).containsExactly("primary");
+    }
+
+    private List<String> findAllRoomNames() {
+        return roomService.findAll(1, 10)
+                .getRooms()
+                .stream()
+                .map(RoomResponseDto::getRoomName)
+                .collect(Collectors.toList());
+    }
+}
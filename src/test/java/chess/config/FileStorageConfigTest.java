@@ -0,0 +1,59 @@
+package chess.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.dto.request.MoveRequestDto;
+import chess.dto.request.RoomCreationRequestDto;
+import chess.dto.response.ChessPieceDto;
+import chess.repository.FileRoomLog;
+import chess.service.ChessService;
+import chess.service.RoomService;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("file")
+class FileStorageConfigTest {
+
+    @TempDir
+    static Path directory;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private ChessService chessService;
+
+    @Autowired
+    private FileRoomLog fileRoomLog;
+
+    @DynamicPropertySource
+    static void fileProperties(final DynamicPropertyRegistry registry) {
+        registry.add("chess.file.path", () -> directory.resolve("chess.log").toString());
+    }
+
+    @Test
+    @DisplayName("file 프로필에서는 DB 없이 로그 파일에 게임을 저장한다.")
+    void move() {
+        // given
+        final int roomId = roomService.createRoom(new RoomCreationRequestDto("file", "1234"));
+        roomService.startGame(roomId);
+
+        // when
+        chessService.move(roomId, new MoveRequestDto("b2", "b4"));
+
+        // then
+        assertThat(chessService.findAllPiece(roomId))
+                .extracting(ChessPieceDto::getPosition)
+                .contains("b4")
+                .doesNotContain("b2");
+        assertThat(fileRoomLog.getFileSize()).isPositive();
+    }
+}
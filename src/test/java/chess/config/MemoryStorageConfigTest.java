@@ -0,0 +1,42 @@
+package chess.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.dto.request.MoveRequestDto;
+import chess.dto.request.RoomCreationRequestDto;
+import chess.dto.response.ChessPieceDto;
+import chess.service.ChessService;
+import chess.service.RoomService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "chess.memory.snapshot-path=")
+@ActiveProfiles("memory")
+class MemoryStorageConfigTest {
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private ChessService chessService;
+
+    @Test
+    @DisplayName("memory 프로필에서는 DB 없이 메모리에 게임을 저장한다.")
+    void move() {
+        // given
+        final int roomId = roomService.createRoom(new RoomCreationRequestDto("memory", "1234"));
+        roomService.startGame(roomId);
+
+        // when
+        chessService.move(roomId, new MoveRequestDto("b2", "b4"));
+
+        // then
+        assertThat(chessService.findAllPiece(roomId))
+                .extracting(ChessPieceDto::getPosition)
+                .contains("b4")
+                .doesNotContain("b2");
+    }
+}
@@ -0,0 +1,140 @@
+package chess.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import javax.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitFilterTest {
+
+    private static final String MOVE_PATH = "/rooms/\\d+/pieces";
+
+    @Test
+    @DisplayName("같은 방에 허용량을 넘게 이동을 요청하면 429와 Retry-After를 응답한다.")
+    void doFilter_tooManyRequests() throws ServletException, IOException {
+        // given
+        final RateLimiter rateLimiter = new RateLimiter(List.of(
+                RateLimitRule.perRoom("move-room", Set.of("PATCH"), MOVE_PATH, 1, Duration.ofSeconds(10))
+        ), 100);
+        final RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+        rateLimitFilter.doFilter(createRequest("PATCH", "/rooms/1/pieces", "127.0.0.1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        // when
+        final MockHttpServletResponse actual = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(createRequest("PATCH", "/rooms/1/pieces", "127.0.0.2"),
+                actual, new MockFilterChain());
+
+        // then
+        assertThat(actual.getStatus()).isEqualTo(429);
+        assertThat(actual.getHeader("Retry-After")).isEqualTo("10");
+        assertThat(rateLimiter.getRejectionCount("move-room")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 클라이언트와 다른 방의 요청은 서로의 허용량에 영향을 주지 않는다.")
+    void doFilter_separateBuckets() throws ServletException, IOException {
+        // given
+        final RateLimiter rateLimiter = new RateLimiter(List.of(
+                RateLimitRule.perClient("move-client", Set.of("PATCH"), MOVE_PATH, 1, Duration.ofSeconds(10)),
+                RateLimitRule.perRoom("move-room", Set.of("PATCH"), MOVE_PATH, 1, Duration.ofSeconds(10))
+        ), 100);
+        final RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+        rateLimitFilter.doFilter(createRequest("PATCH", "/rooms/1/pieces", "127.0.0.1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        // when
+        final MockHttpServletResponse actual = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(createRequest("PATCH", "/rooms/2/pieces", "127.0.0.2"),
+                actual, new MockFilterChain());
+
+        // then
+        assertThat(actual.getStatus()).isEqualTo(200);
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("버킷 수가 최대치에 도달하면 가득 찬 버킷을 정리한 뒤 새 버킷을 만든다.")
+    void tryAcquire_evictExpired() {
+        // given
+        final RateLimiter rateLimiter = new RateLimiter(List.of(
+                RateLimitRule.perClient("move-client", Set.of("PATCH"), MOVE_PATH, 1, Duration.ofSeconds(1))
+        ), 1);
+        rateLimiter.tryAcquire(createRequest("PATCH", "/rooms/1/pieces", "127.0.0.1"), 0);
+
+        // when
+        final long actual = rateLimiter.tryAcquire(
+                createRequest("PATCH", "/rooms/1/pieces", "127.0.0.2"), Duration.ofSeconds(2).toNanos());
+
+        // then
+        assertThat(actual).isZero();
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("방별 허용량에 걸리면 먼저 꺼낸 클라이언트별 토큰을 돌려준다.")
+    void tryAcquire_refund() {
+        // given
+        final RateLimiter rateLimiter = new RateLimiter(List.of(
+                RateLimitRule.perClient("move-client", Set.of("PATCH"), MOVE_PATH, 1, Duration.ofSeconds(10)),
+                RateLimitRule.perRoom("move-room", Set.of("PATCH"), MOVE_PATH, 1, Duration.ofSeconds(10))
+        ), 100);
+        rateLimiter.tryAcquire(createRequest("PATCH", "/rooms/1/pieces", "127.0.0.1"), 0);
+        rateLimiter.tryAcquire(createRequest("PATCH", "/rooms/1/pieces", "127.0.0.2"), 0);
+
+        // when
+        final long actual = rateLimiter.tryAcquire(createRequest("PATCH", "/rooms/2/pieces", "127.0.0.2"), 0);
+
+        // then
+        assertThat(actual).isZero();
+        assertThat(rateLimiter.getRejectionCount("move-room")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷 수가 최대치에 도달해도 새 요청을 거절하지 않고 가장 오래된 버킷을 정리한다.")
+    void tryAcquire_evictOldest() {
+        // given
+        final RateLimiter rateLimiter = new RateLimiter(List.of(
+                RateLimitRule.perClient("move-client", Set.of("PATCH"), MOVE_PATH, 1, Duration.ofSeconds(10))
+        ), 1);
+        rateLimiter.tryAcquire(createRequest("PATCH", "/rooms/1/pieces", "127.0.0.1"), 0);
+
+        // when
+        final long actual = rateLimiter.tryAcquire(createRequest("PATCH", "/rooms/1/pieces", "127.0.0.2"), 0);
+
+        // then
+        assertThat(actual).isZero();
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 방에는 방별 버킷을 만들지 않는다.")
+    void tryAcquire_unknownRoom() {
+        // given
+        final RateLimiter rateLimiter = new RateLimiter(List.of(
+                RateLimitRule.perRoom("move-room", Set.of("PATCH"), MOVE_PATH, 1, Duration.ofSeconds(10))
+        ), 100, roomId -> roomId == 1);
+
+        // when
+        final long actual = rateLimiter.tryAcquire(createRequest("PATCH", "/rooms/2/pieces", "127.0.0.1"), 0);
+
+        // then
+        assertThat(actual).isZero();
+        assertThat(rateLimiter.getBucketCount()).isZero();
+    }
+
+    private MockHttpServletRequest createRequest(final String method, final String uri, final String remoteAddr) {
+        final MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
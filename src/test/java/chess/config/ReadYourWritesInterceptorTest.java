@@ -0,0 +1,38 @@
+package chess.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import javax.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReadYourWritesInterceptorTest {
+
+    @AfterEach
+    void tearDown() {
+        PrimaryRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("비동기 처리가 시작되면 요청 스레드의 primary 고정을 해제한다.")
+    void afterConcurrentHandlingStarted() {
+        // given
+        final ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofSeconds(5));
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/rooms/1/events");
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.LAST_WRITE_COOKIE,
+                String.valueOf(System.currentTimeMillis())));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        assertThat(PrimaryRoutingContext.isPinned()).isTrue();
+
+        // when
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+        // then
+        assertThat(PrimaryRoutingContext.isPinned()).isFalse();
+    }
+}
@@ -0,0 +1,142 @@
+package chess.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.dao.RoomShardRouter;
+import chess.dao.ShardContext;
+import chess.domain.GameStatus;
+import chess.dto.request.MoveRequestDto;
+import chess.dto.request.RoomCreationRequestDto;
+import chess.dto.response.RoomCursorPageDto;
+import chess.dto.response.RoomResponseDto;
+import chess.service.ChessService;
+import chess.service.RoomService;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+        "chess.datasource.shard.urls=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1"
+})
+@Sql({"/schema.sql"})
+class ShardingConfigTest {
+
+    private static final String SHARD1_URL = "jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1";
+
+    private final JdbcTemplate shard1JdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(SHARD1_URL, "sa", ""));
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private ChessService chessService;
+
+    @Autowired
+    private RoomShardRouter roomShardRouter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"))
+                .execute(shard1JdbcTemplate.getDataSource());
+    }
+
+    @Test
+    @DisplayName("방 번호로 저장된 샤드를 알 수 있다.")
+    void createRoom_encodesShard() {
+        // given
+        final int roomId = roomService.createRoom(new RoomCreationRequestDto("first", "1234"));
+        final int otherRoomId = roomService.createRoom(new RoomCreationRequestDto("second", "1234"));
+
+        // when
+        final List<Integer> shards = List.of(roomShardRouter.shardOf(roomId), roomShardRouter.shardOf(otherRoomId));
+
+        // then
+        assertThat(shards).containsExactlyInAnyOrder(0, 1);
+        final int shard1RoomId = roomShardRouter.shardOf(roomId) == 1 ? roomId : otherRoomId;
+        assertThat(shard1JdbcTemplate.queryForList("SELECT room_id FROM room", Integer.class))
+                .containsExactly(shard1RoomId);
+    }
+
+    @Test
+    @DisplayName("다른 샤드에 있는 방의 게임을 진행한다.")
+    void move_otherShard() {
+        // given
+        final int roomId = roomService.createRoom(new RoomCreationRequestDto("first", "1234"));
+        final int otherRoomId = roomService.createRoom(new RoomCreationRequestDto("second", "1234"));
+        final int shard1RoomId = roomShardRouter.shardOf(roomId) == 1 ? roomId : otherRoomId;
+        roomService.startGame(shard1RoomId);
+
+        // when
+        chessService.move(shard1RoomId, new MoveRequestDto("a2", "a4"));
+
+        // then
+        assertThat(chessService.findAllPiece(shard1RoomId)).hasSize(32);
+        assertThat(shard1JdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chess_piece WHERE position = 'a4'", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모든 샤드의 방을 방 번호 순서로 합쳐 커서 단위로 조회한다.")
+    void findAllAfter_mergesShards() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            roomService.createRoom(new RoomCreationRequestDto("room" + i, "1234"));
+        }
+
+        // when
+        final RoomCursorPageDto firstPage = roomService.findAllAfter(0, 3);
+        final RoomCursorPageDto secondPage = roomService.findAllAfter(firstPage.getNextCursor(), 3);
+
+        // then
+        final List<Integer> roomIds = toRoomIds(firstPage);
+        roomIds.addAll(toRoomIds(secondPage));
+        assertThat(roomIds).hasSize(5).isSorted();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(roomService.findAll(1, 10).getRooms()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("다른 샤드에 같은 이름의 방은 만들 수 없다.")
+    void createRoom_duplicateNameAcrossShards() {
+        // given
+        roomService.createRoom(new RoomCreationRequestDto("first", "1234"));
+
+        // when & then
+        assertThatThrownBy(() -> roomService.createRoom(new RoomCreationRequestDto("first", "1234")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이름이 같은 방이 이미 존재합니다.");
+    }
+
+    @Test
+    @DisplayName("하나의 트랜잭션에서 여러 샤드에 접근하면 예외가 발생한다.")
+    void call_multipleShardsInTransaction() {
+        // when & then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            ShardContext.call(0, () -> GameStatus.READY);
+            ShardContext.call(1, () -> GameStatus.READY);
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("하나의 트랜잭션에서 여러 샤드에 접근할 수 없습니다.");
+    }
+
+    private List<Integer> toRoomIds(final RoomCursorPageDto roomCursorPageDto) {
+        return roomCursorPageDto.getRooms()
+                .stream()
+                .map(RoomResponseDto::getRoomId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,71 @@
+package chess.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("버킷 크기만큼은 바로 꺼낼 수 있고 그 다음은 기다려야 한다.")
+    void tryConsume_exhausted() {
+        // given
+        final TokenBucket tokenBucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+        tokenBucket.tryConsume(0);
+        tokenBucket.tryConsume(0);
+
+        // when
+        final long actual = tokenBucket.tryConsume(0);
+
+        // then
+        assertThat(actual).isEqualTo(SECOND);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워진다.")
+    void tryConsume_refilled() {
+        // given
+        final TokenBucket tokenBucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+        tokenBucket.tryConsume(0);
+        tokenBucket.tryConsume(0);
+
+        // when
+        final long actual = tokenBucket.tryConsume(SECOND);
+
+        // then
+        assertThat(actual).isZero();
+        assertThat(tokenBucket.isFull(SECOND)).isFalse();
+        assertThat(tokenBucket.isFull(3 * SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 토큰을 한 번에 꺼내고 돌려받을 수 있다.")
+    void tryConsume_permits() {
+        // given
+        final TokenBucket tokenBucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+        tokenBucket.tryConsume(0, 2);
+
+        // when
+        final long rejected = tokenBucket.tryConsume(0);
+        tokenBucket.refund(2);
+        final long actual = tokenBucket.tryConsume(0);
+
+        // then
+        assertThat(rejected).isEqualTo(SECOND);
+        assertThat(actual).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷 크기가 1보다 작으면 예외가 발생한다.")
+    void constructor_exception() {
+        assertThatThrownBy(() -> new TokenBucket(0, Duration.ofSeconds(1), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("버킷 크기는 1 이상이어야 합니다.");
+    }
+}
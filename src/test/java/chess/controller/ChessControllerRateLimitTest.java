@@ -0,0 +1,91 @@
+package chess.controller;
+
+import chess.TestConfig;
+import chess.domain.ChessGame;
+import chess.domain.GameStatus;
+import chess.domain.chessboard.ChessBoard;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.chesspiece.Color;
+import chess.domain.chesspiece.King;
+import chess.domain.position.Position;
+import chess.domain.room.Room;
+import chess.dto.request.MoveBatchRequestDto;
+import chess.dto.request.MoveRequestDto;
+import chess.service.RoomSnapshotService;
+import io.restassured.RestAssured;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import util.FakeChessGameRepository;
+import util.FakeRoomRepository;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "chess.rate-limit.enabled=true")
+@Import(TestConfig.class)
+class ChessControllerRateLimitTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    private FakeRoomRepository roomRepository;
+
+    @Autowired
+    private FakeChessGameRepository chessGameRepository;
+
+    @Autowired
+    private RoomSnapshotService roomSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @AfterEach
+    void clear() {
+        roomRepository.deleteAll();
+        chessGameRepository.deleteAll();
+        roomSnapshotService.clear();
+    }
+
+    @Test
+    @DisplayName("방별 허용량보다 많은 수를 한 번에 이동해도 요청 제한에 걸리지 않는다.")
+    void movePieces_largerThanCapacity() {
+        // given
+        final Map<Position, ChessPiece> pieceByPosition = new HashMap<>();
+        pieceByPosition.put(Position.from("a1"), King.from(Color.WHITE));
+        pieceByPosition.put(Position.from("h8"), King.from(Color.BLACK));
+
+        final ChessGame chessGame = new ChessGame(new ChessBoard(pieceByPosition), GameStatus.PLAYING);
+        final int roomId = roomRepository.add(new Room("test", "1234", chessGame));
+        chessGameRepository.add(roomId, chessGame);
+
+        // when
+        final List<MoveRequestDto> moves = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            moves.add(new MoveRequestDto("a1", "a2"));
+            moves.add(new MoveRequestDto("h8", "h7"));
+            moves.add(new MoveRequestDto("a2", "a1"));
+            moves.add(new MoveRequestDto("h7", "h8"));
+        }
+
+        // then
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new MoveBatchRequestDto(moves))
+                .when().post("/rooms/" + roomId + "/moves:batch")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value());
+    }
+}
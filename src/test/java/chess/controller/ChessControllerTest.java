@@ -1,5 +1,7 @@
 package chess.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import chess.TestConfig;
 import chess.domain.ChessGame;
 import chess.domain.GameStatus;
@@ -16,11 +18,14 @@ import chess.domain.position.Position;
 import chess.domain.result.EndResult;
 import chess.domain.room.Room;
 import chess.dto.ChessPieceMapper;
+import chess.dto.request.MoveBatchRequestDto;
 import chess.dto.request.MoveRequestDto;
 import chess.dto.request.RoomCreationRequestDto;
 import chess.dto.request.RoomDeletionRequestDto;
+import chess.dto.request.RoomStatesRequestDto;
 import chess.dto.response.ChessPieceDto;
 import chess.dto.response.CurrentTurnDto;
+import chess.service.RoomSnapshotService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.RestAssured;
@@ -58,6 +63,9 @@ class ChessControllerTest {
     @Autowired
     private FakeChessGameRepository chessGameRepository;
 
+    @Autowired
+    private RoomSnapshotService roomSnapshotService;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
@@ -67,6 +75,7 @@ class ChessControllerTest {
     void clear() {
         roomRepository.deleteAll();
         chessGameRepository.deleteAll();
+        roomSnapshotService.clear();
     }
 
     @Test
@@ -95,6 +104,66 @@ class ChessControllerTest {
                 .statusCode(HttpStatus.OK.value());
     }
 
+    @Test
+    @DisplayName("커서 다음의 방을 조회한다.")
+    void findAllRoomAfter() {
+        for (int i = 1; i <= 3; i++) {
+            roomRepository.add(new Room(
+                    "test" + i,
+                    "1234",
+                    new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.READY)));
+        }
+
+        RestAssured.given().log().all()
+                .when().get("/rooms?cursor=1&size=1")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("nextCursor", Is.is(2))
+                .body("rooms[0].roomName", Is.is("test2"));
+    }
+
+    @Test
+    @DisplayName("여러 방의 상태를 한 번에 조회한다.")
+    void findStates() {
+        // given
+        final int roomId = roomRepository.add(new Room(
+                "test",
+                "1234",
+                new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING)));
+        final RoomStatesRequestDto requestDto = new RoomStatesRequestDto(List.of(roomId));
+
+        // then
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(requestDto)
+                .when().post("/rooms/states")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("[0].roomId", Is.is(roomId))
+                .body("[0].gameStatus", Is.is("playing"))
+                .body("[0].pieces.size()", Is.is(32));
+    }
+
+    @Test
+    @DisplayName("방의 기물, 점수, 턴, 상태를 한 번에 조회한다.")
+    void findState() {
+        // given
+        final int roomId = roomRepository.add(new Room(
+                "test",
+                "1234",
+                new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING)));
+
+        // then
+        RestAssured.given().log().all()
+                .when().get("/rooms/" + roomId + "/state")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("roomName", Is.is("test"))
+                .body("currentTurn", Is.is("white"))
+                .body("whiteScore", Is.is(38.0f))
+                .body("pieces.size()", Is.is(32));
+    }
+
     @Test
     @DisplayName("방을 생성한다.")
     void createRoom() {
@@ -213,6 +282,154 @@ class ChessControllerTest {
                 .statusCode(HttpStatus.NO_CONTENT.value());
     }
 
+    @Test
+    @DisplayName("여러 수를 한 번에 이동할 때 잘못된 수가 있으면 그 순번을 응답한다.")
+    void movePieces_illegalMove() {
+        // given
+        final Map<Position, ChessPiece> pieceByPosition = new HashMap<>();
+        pieceByPosition.put(Position.from("a1"), King.from(Color.WHITE));
+        pieceByPosition.put(Position.from("h8"), King.from(Color.BLACK));
+
+        final ChessGame chessGame = new ChessGame(new ChessBoard(pieceByPosition), GameStatus.PLAYING);
+        final int roomId = roomRepository.add(new Room("test", "1234", chessGame));
+        chessGameRepository.add(roomId, chessGame);
+
+        // when
+        final MoveBatchRequestDto requestDto = new MoveBatchRequestDto(List.of(
+                new MoveRequestDto("a1", "b2"),
+                new MoveRequestDto("h8", "g7"),
+                new MoveRequestDto("b2", "b9")));
+
+        // then
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(requestDto)
+                .when().post("/rooms/" + roomId + "/moves:batch")
+                .then().log().all()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("moveIndex", Is.is(2))
+                .body("message", Is.is("유효하지 않은 위치입니다."));
+    }
+
+    @Test
+    @DisplayName("Prefer 헤더를 보내면 이동 결과를 함께 응답한다.")
+    void movePiece_returnRepresentation() {
+        // given
+        final Map<Position, ChessPiece> pieceByPosition = new HashMap<>();
+        pieceByPosition.put(Position.from("a1"), King.from(Color.WHITE));
+        pieceByPosition.put(Position.from("b2"), Knight.from(Color.BLACK));
+        pieceByPosition.put(Position.from("h8"), King.from(Color.BLACK));
+
+        final ChessGame chessGame = new ChessGame(new ChessBoard(pieceByPosition), GameStatus.PLAYING);
+        final int roomId = roomRepository.add(new Room("test", "1234", chessGame));
+        chessGameRepository.add(roomId, chessGame);
+
+        // when
+        final MoveRequestDto requestDto = new MoveRequestDto("a1", "b2");
+
+        // then
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header("Prefer", "return=representation")
+                .body(requestDto)
+                .when().patch("/rooms/" + roomId + "/pieces")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .header("Preference-Applied", "return=representation")
+                .body("movedPiece.position", Is.is("b2"))
+                .body("capturedPiece.color", Is.is("black"))
+                .body("currentTurn", Is.is("black"))
+                .body("blackScore", Is.is(0.0f));
+    }
+
+    @Test
+    @DisplayName("FEN을 요청하면 기물을 FEN 문자열로 조회한다.")
+    void findPieces_fen() {
+        // given
+        final ChessGame chessGame = new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING);
+        final int roomId = roomRepository.add(new Room("test", "1234", chessGame));
+        chessGameRepository.add(roomId, chessGame);
+
+        // then
+        RestAssured.given().log().all()
+                .accept("application/x-chess-fen")
+                .when().get("/rooms/" + roomId + "/pieces")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("application/x-chess-fen")
+                .body(Is.is("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1"));
+    }
+
+    @Test
+    @DisplayName("바이너리를 요청하면 턴과 기물당 2바이트로 조회한다.")
+    void findPieces_packed() {
+        // given
+        final ChessGame chessGame = new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING);
+        final int roomId = roomRepository.add(new Room("test", "1234", chessGame));
+        chessGameRepository.add(roomId, chessGame);
+
+        // when
+        final byte[] actual = RestAssured.given().log().all()
+                .accept("application/x-chess-board")
+                .when().get("/rooms/" + roomId + "/pieces")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("application/x-chess-board")
+                .extract().asByteArray();
+
+        // then
+        assertThat(actual).hasSize(1 + 32 * 2);
+        assertThat(actual[0]).isEqualTo((byte) Color.WHITE.ordinal());
+    }
+
+    @Test
+    @DisplayName("방이 변경되지 않았으면 기물 조회에 304를 응답한다.")
+    void findPieces_notModified() {
+        // given
+        final ChessGame chessGame = new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING);
+        final int roomId = roomRepository.add(new Room("test", "1234", chessGame));
+        chessGameRepository.add(roomId, chessGame);
+        final String eTag = RestAssured.given()
+                .when().get("/rooms/" + roomId + "/pieces")
+                .then().statusCode(HttpStatus.OK.value())
+                .extract().header("ETag");
+
+        // then
+        RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when().get("/rooms/" + roomId + "/pieces")
+                .then().log().all()
+                .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    @DisplayName("기물을 이동하면 이전 ETag로도 기물을 다시 응답한다.")
+    void findPieces_modifiedAfterMove() {
+        // given
+        final ChessGame chessGame = new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING);
+        final int roomId = roomRepository.add(new Room("test", "1234", chessGame));
+        chessGameRepository.add(roomId, chessGame);
+        final String eTag = RestAssured.given()
+                .when().get("/rooms/" + roomId + "/turn")
+                .then().statusCode(HttpStatus.OK.value())
+                .extract().header("ETag");
+
+        // when
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new MoveRequestDto("a2", "a4"))
+                .when().patch("/rooms/" + roomId + "/pieces")
+                .then().statusCode(HttpStatus.NO_CONTENT.value());
+
+        // then
+        RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when().get("/rooms/" + roomId + "/turn")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("currentTurn", Is.is("BLACK"));
+    }
+
     @Test
     @DisplayName("현재 점수를 계산한다.")
     void findScore() throws JsonProcessingException {
@@ -0,0 +1,128 @@
+package chess.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.TestConfig;
+import chess.domain.ChessGame;
+import chess.domain.GameStatus;
+import chess.domain.chessboard.ChessBoardFactory;
+import chess.domain.position.Position;
+import chess.domain.room.Room;
+import chess.dto.GameFrameCodec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import util.FakeChessGameRepository;
+import util.FakeRoomRepository;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@Import(TestConfig.class)
+class GameSocketHandlerTest {
+
+    private static final byte RESULT_FRAME = 1;
+    private static final byte MOVED_FRAME = 2;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    private FakeRoomRepository roomRepository;
+
+    @Autowired
+    private FakeChessGameRepository chessGameRepository;
+
+    @AfterEach
+    void clear() {
+        roomRepository.deleteAll();
+        chessGameRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("웹소켓으로 기물을 이동하면 이동 알림과 결과를 받는다.")
+    void move() throws Exception {
+        // given
+        final int roomId = createRoom();
+        final BlockingQueue<ByteBuffer> frames = new LinkedBlockingQueue<>();
+        final WebSocket webSocket = connect(roomId, frames);
+
+        // when
+        webSocket.sendBinary(createMoveFrame(7, "a2", "a4"), true).join();
+
+        // then
+        final ByteBuffer moved = frames.poll(5, TimeUnit.SECONDS);
+        assertThat(moved.get()).isEqualTo(MOVED_FRAME);
+        moved.getInt();
+        assertThat(moved.get()).isEqualTo((byte) Position.from("a2").toIndex());
+        assertThat(moved.get()).isEqualTo((byte) Position.from("a4").toIndex());
+
+        final ByteBuffer result = frames.poll(5, TimeUnit.SECONDS);
+        assertThat(result.get()).isEqualTo(RESULT_FRAME);
+        assertThat(result.getInt()).isEqualTo(7);
+        assertThat(result.get()).isEqualTo(GameFrameCodec.RESULT_OK);
+        webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+    }
+
+    @Test
+    @DisplayName("규칙에 맞지 않는 이동은 실패 결과를 받는다.")
+    void move_invalid() throws Exception {
+        // given
+        final int roomId = createRoom();
+        final BlockingQueue<ByteBuffer> frames = new LinkedBlockingQueue<>();
+        final WebSocket webSocket = connect(roomId, frames);
+
+        // when
+        webSocket.sendBinary(createMoveFrame(8, "a2", "a5"), true).join();
+
+        // then
+        final ByteBuffer result = frames.poll(5, TimeUnit.SECONDS);
+        assertThat(result.get()).isEqualTo(RESULT_FRAME);
+        assertThat(result.getInt()).isEqualTo(8);
+        assertThat(result.get()).isEqualTo(GameFrameCodec.RESULT_INVALID_MOVE);
+        webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+    }
+
+    private int createRoom() {
+        final ChessGame chessGame = new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING);
+        final int roomId = roomRepository.add(new Room("test", "1234", chessGame));
+        chessGameRepository.add(roomId, chessGame);
+        return roomId;
+    }
+
+    private WebSocket connect(final int roomId, final BlockingQueue<ByteBuffer> frames) {
+        return HttpClient.newHttpClient()
+                .newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + port + "/rooms/" + roomId + "/socket"),
+                        new WebSocket.Listener() {
+                            @Override
+                            public CompletionStage<?> onBinary(final WebSocket webSocket, final ByteBuffer data,
+                                                               final boolean last) {
+                                final ByteBuffer frame = ByteBuffer.allocate(data.remaining()).put(data).flip();
+                                frames.add(frame);
+                                webSocket.request(1);
+                                return null;
+                            }
+                        })
+                .join();
+    }
+
+    private ByteBuffer createMoveFrame(final int sequence, final String from, final String to) {
+        return ByteBuffer.allocate(GameFrameCodec.MOVE_FRAME_SIZE)
+                .putInt(sequence)
+                .put((byte) Position.from(from).toIndex())
+                .put((byte) Position.from(to).toIndex())
+                .flip();
+    }
+}
@@ -0,0 +1,129 @@
+package chess.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import chess.TestConfig;
+import chess.domain.ChessGame;
+import chess.domain.GameStatus;
+import chess.domain.chessboard.ChessBoardFactory;
+import chess.domain.room.Room;
+import chess.dto.request.MoveRequestDto;
+import chess.service.ChessService;
+import chess.service.NextMoveNotifier;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import util.FakeChessGameRepository;
+import util.FakeRoomRepository;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@Import(TestConfig.class)
+class RoomEventControllerTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    private FakeRoomRepository roomRepository;
+
+    @Autowired
+    private FakeChessGameRepository chessGameRepository;
+
+    @Autowired
+    private ChessService chessService;
+
+    @Autowired
+    private NextMoveNotifier nextMoveNotifier;
+
+    @AfterEach
+    void clear() {
+        roomRepository.deleteAll();
+        chessGameRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("방을 구독하면 현재 상태와 이후의 이동을 전달받는다.")
+    void subscribe() {
+        // given
+        final ChessGame chessGame = new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING);
+        final int roomId = roomRepository.add(new Room("test", "1234", chessGame));
+        chessGameRepository.add(roomId, chessGame);
+
+        // then
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            final HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/rooms/" + roomId + "/events"))
+                    .header("Accept", "text/event-stream")
+                    .build();
+            final HttpResponse<InputStream> response = HttpClient.newHttpClient()
+                    .send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (final BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                assertThat(readUntilData(reader)).contains("event:state");
+
+                chessService.move(roomId, new MoveRequestDto("a2", "a4"));
+
+                final String moveEvent = readUntilData(reader);
+                assertThat(moveEvent).contains("event:move");
+                assertThat(moveEvent).contains("\"to\":\"a4\"");
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("다음 수를 기다리는 요청은 기물이 이동하면 방의 상태를 응답한다.")
+    void awaitNextMove() {
+        // given
+        final ChessGame chessGame = new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING);
+        final int roomId = roomRepository.add(new Room("test", "1234", chessGame));
+        chessGameRepository.add(roomId, chessGame);
+
+        // then
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            final HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/rooms/" + roomId + "/next-move?since=0"))
+                    .build();
+            final CompletableFuture<HttpResponse<String>> response = HttpClient.newHttpClient()
+                    .sendAsync(request, HttpResponse.BodyHandlers.ofString());
+            while (nextMoveNotifier.getWaiterCount(roomId) == 0) {
+                Thread.sleep(10);
+            }
+            assertThat(response).isNotDone();
+
+            chessService.move(roomId, new MoveRequestDto("a2", "a4"));
+
+            final HttpResponse<String> actual = response.get();
+            assertThat(actual.statusCode()).isEqualTo(200);
+            assertThat(actual.headers().firstValue("ETag")).hasValue("\"1\"");
+            assertThat(actual.body()).contains("\"currentTurn\":\"black\"");
+        });
+    }
+
+    private String readUntilData(final BufferedReader reader) throws Exception {
+        final StringBuilder event = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            event.append(line).append('\n');
+            if (line.startsWith("data:")) {
+                return event.toString();
+            }
+        }
+        return event.toString();
+    }
+}
@@ -3,6 +3,7 @@ package chess.dao;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import chess.domain.GameStatus;
+import chess.domain.chessboard.ChessBoardFactory;
 import chess.domain.chesspiece.ChessPiece;
 import chess.domain.chesspiece.Color;
 import chess.domain.chesspiece.King;
@@ -42,6 +43,21 @@ class ChessPieceDaoTest {
         assertThat(insertedRow).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("초기 체스판의 기물을 한 번에 저장한다.")
+    void saveAll_initialBoard() {
+        // given
+        final int roomId = roomDao.save(new RoomEntity("hi", GameStatus.READY, Color.WHITE, "1q2w3e4r"));
+        final Map<Position, ChessPiece> pieceByPosition = ChessBoardFactory.createInitPieceByPosition();
+
+        // when
+        final int insertedRow = chessPieceDao.saveAll(roomId, pieceByPosition);
+
+        // then
+        assertThat(insertedRow).isEqualTo(32);
+        assertThat(chessPieceDao.findAllEntityByRoomId(roomId)).hasSize(32);
+    }
+
     @Test
     @DisplayName("방 id와 위치에 해당하는 기물을 삭제한다.")
     void deleteByRoomIdAndPosition() {
@@ -1,14 +1,17 @@
 package chess.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import chess.domain.GameStatus;
 import chess.domain.chesspiece.Color;
 import chess.entity.RoomEntity;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.test.context.jdbc.Sql;
 
 @SpringBootTest
@@ -35,6 +38,50 @@ class RoomDaoTest {
         assertThat(roomId2).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("여러 방을 한 번에 생성하면 연속된 id가 할당된다.")
+    void saveAll() {
+        // given
+        final List<RoomEntity> roomEntities = List.of(
+                new RoomEntity("hi", GameStatus.READY, Color.WHITE, "1q2w3e4r"),
+                new RoomEntity("hello", GameStatus.READY, Color.WHITE, "1q2w3e4r"),
+                new RoomEntity("bye", GameStatus.READY, Color.WHITE, "1q2w3e4r")
+        );
+
+        // when
+        final List<Integer> roomIds = roomDao.saveAll(roomEntities);
+
+        // then
+        assertThat(roomIds).containsExactly(1, 2, 3);
+        assertThat(roomDao.findById(3).getName()).isEqualTo("bye");
+        assertThat(roomDao.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 방과 같은 이름으로 저장하면 예외가 발생한다.")
+    void save_duplicateActiveName() {
+        // given
+        roomDao.save(new RoomEntity("hi", GameStatus.READY, Color.WHITE, "1q2w3e4r"));
+
+        // when & then
+        assertThatThrownBy(() -> roomDao.save(new RoomEntity("hi", GameStatus.READY, Color.WHITE, "1q2w3e4r")))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("삭제된 방의 이름은 다시 사용할 수 있다.")
+    void save_deletedName() {
+        // given
+        final int roomId = roomDao.save(new RoomEntity("hi", GameStatus.READY, Color.WHITE, "1q2w3e4r"));
+        roomDao.deleteById(roomId);
+
+        // when
+        final int actual = roomDao.save(new RoomEntity("hi", GameStatus.READY, Color.WHITE, "1q2w3e4r"));
+
+        // then
+        assertThat(roomDao.findByName("hi")).map(RoomEntity::getRoomId).contains(actual);
+    }
+
     @Test
     @DisplayName("방 id로 방을 삭제한다.")
     void deleteById() {
@@ -58,7 +105,7 @@ class RoomDaoTest {
         final int roomId = createRoom();
 
         // when
-        final int updatedRow = roomDao.updateById(roomId, updatedStatus, updatedCurrentTurn);
+        final int updatedRow = roomDao.updateById(roomId, updatedStatus, updatedCurrentTurn, 0);
         final RoomEntity roomEntity = roomDao.findById(roomId);
         final GameStatus actualStatus = roomEntity.toGameStatus();
 
@@ -67,6 +114,23 @@ class RoomDaoTest {
         assertThat(actualStatus).isEqualTo(updatedStatus);
     }
 
+    @Test
+    @DisplayName("갱신하려는 버전이 현재 버전과 다르면 갱신하지 않는다.")
+    void updateById_versionConflict() {
+        // given
+        final int roomId = createRoom();
+        roomDao.updateById(roomId, GameStatus.PLAYING, Color.WHITE, 0);
+
+        // when
+        final int updatedRow = roomDao.updateById(roomId, GameStatus.PLAYING, Color.BLACK, 0);
+        final RoomEntity roomEntity = roomDao.findById(roomId);
+
+        // then
+        assertThat(updatedRow).isZero();
+        assertThat(roomEntity.getVersion()).isEqualTo(1);
+        assertThat(roomEntity.toCurrentTurn()).isEqualTo(Color.WHITE);
+    }
+
     private int createRoom() {
         final String roomName = "hi";
         final GameStatus gameStatus = GameStatus.READY;
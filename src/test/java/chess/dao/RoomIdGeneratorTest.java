@@ -0,0 +1,97 @@
+package chess.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@Sql({"/schema.sql"})
+class RoomIdGeneratorTest {
+
+    @Autowired
+    private IdSequenceDao idSequenceDao;
+
+    @Autowired
+    private RoomShardRouter roomShardRouter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("블록 안의 id는 시퀀스 테이블을 다시 조회하지 않고 할당한다.")
+    void next_withinBlock() {
+        // given
+        final RoomIdGenerator roomIdGenerator = new RoomIdGenerator(idSequenceDao, roomShardRouter, 10);
+
+        // when
+        final List<Integer> roomIds = roomIdGenerator.next(3);
+        final int roomId = roomIdGenerator.next();
+
+        // then
+        assertThat(roomIds).containsExactly(1, 2, 3);
+        assertThat(roomId).isEqualTo(4);
+        assertThat(findNextValue()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("서로 다른 생성기는 겹치지 않는 블록을 예약한다.")
+    void next_otherGenerator() {
+        // given
+        final RoomIdGenerator roomIdGenerator = new RoomIdGenerator(idSequenceDao, roomShardRouter, 10);
+        final RoomIdGenerator otherRoomIdGenerator = new RoomIdGenerator(idSequenceDao, roomShardRouter, 10);
+
+        // when
+        final int roomId = roomIdGenerator.next();
+        final int otherRoomId = otherRoomIdGenerator.next();
+
+        // then
+        assertThat(roomId).isEqualTo(1);
+        assertThat(otherRoomId).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("블록보다 많은 id를 요청하면 남은 개수만큼 한 번에 예약한다.")
+    void next_largerThanBlock() {
+        // given
+        final RoomIdGenerator roomIdGenerator = new RoomIdGenerator(idSequenceDao, roomShardRouter, 10);
+        roomIdGenerator.next();
+
+        // when
+        final List<Integer> roomIds = roomIdGenerator.next(25);
+
+        // then
+        assertThat(roomIds).hasSize(25);
+        assertThat(roomIds.get(0)).isEqualTo(2);
+        assertThat(roomIds.get(24)).isEqualTo(26);
+        assertThat(findNextValue()).isEqualTo(27);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 id를 요청하면 예외가 발생한다.")
+    void next_insideTransaction() {
+        // given
+        final RoomIdGenerator roomIdGenerator = new RoomIdGenerator(idSequenceDao, roomShardRouter, 10);
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when & then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> roomIdGenerator.next()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(findNextValue()).isEqualTo(1);
+    }
+
+    private long findNextValue() {
+        return jdbcTemplate.queryForObject("SELECT next_value FROM id_sequence WHERE name = ?", Long.class, "room");
+    }
+}
@@ -12,6 +12,7 @@ import chess.domain.chesspiece.Rook;
 import chess.domain.position.Position;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -145,6 +146,29 @@ class ChessBoardTest {
         assertThat(actual).isEqualTo(true);
     }
 
+    @Test
+    @DisplayName("기물을 조회하기 전까지는 기물을 불러오지 않는다.")
+    void lazyLoad() {
+        // given
+        final AtomicInteger loadCount = new AtomicInteger();
+        final ChessBoard chessBoard = new ChessBoard(() -> {
+            loadCount.incrementAndGet();
+            return ChessBoardFactory.createInitPieceByPosition();
+        }, Color.BLACK);
+
+        // when
+        final Color currentTurn = chessBoard.getCurrentTurnColor();
+        final ChessBoard copied = chessBoard.copy();
+        final int loadCountBeforeAccess = loadCount.get();
+        copied.findAllPiece();
+        chessBoard.findAllPiece();
+
+        // then
+        assertThat(currentTurn).isEqualTo(Color.BLACK);
+        assertThat(loadCountBeforeAccess).isZero();
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
     private static class PieceByPosition {
 
         private final Map<Position, ChessPiece> value;
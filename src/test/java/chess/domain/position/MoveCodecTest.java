@@ -0,0 +1,57 @@
+package chess.domain.position;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MoveCodecTest {
+
+    @Test
+    @DisplayName("출발 칸과 도착 칸의 인덱스를 하나의 코드로 변환한다.")
+    void encode() {
+        // given
+        final int fromIndex = Position.from("a2").toIndex();
+        final int toIndex = Position.from("h8").toIndex();
+
+        // when
+        final int code = MoveCodec.encode(fromIndex, toIndex);
+
+        // then
+        assertThat(MoveCodec.fromIndex(code)).isEqualTo(fromIndex);
+        assertThat(MoveCodec.toIndex(code)).isEqualTo(toIndex);
+    }
+
+    @Test
+    @DisplayName("체스판 밖의 인덱스는 변환할 수 없다.")
+    void encode_invalidIndex() {
+        assertThatThrownBy(() -> MoveCodec.encode(64, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 위치입니다.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 255, 256, 4095})
+    @DisplayName("수 코드를 2바이트로 쓰고 다시 읽는다.")
+    void write(final int code) {
+        // given
+        final byte[] bytes = new byte[MoveCodec.MOVE_SIZE];
+
+        // when
+        MoveCodec.write(bytes, 0, code);
+
+        // then
+        assertThat(MoveCodec.read(bytes, 0)).isEqualTo(code);
+    }
+
+    @Test
+    @DisplayName("12비트를 넘는 코드는 쓸 수 없다.")
+    void write_invalidCode() {
+        assertThatThrownBy(() -> MoveCodec.write(new byte[MoveCodec.MOVE_SIZE], 0, 4096))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 수 코드입니다.");
+    }
+}
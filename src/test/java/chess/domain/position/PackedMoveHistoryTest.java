@@ -0,0 +1,90 @@
+package chess.domain.position;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PackedMoveHistoryTest {
+
+    private static final int PLY_COUNT = 200;
+
+    @Test
+    @DisplayName("기록한 수를 순서대로 조회한다.")
+    void codesFrom() {
+        // given
+        final PackedMoveHistory moveHistory = createMoveHistory();
+
+        // when
+        final List<Integer> codes = moveHistory.codesFrom(0);
+
+        // then
+        assertThat(codes).hasSize(PLY_COUNT);
+        assertThat(MoveCodec.fromIndex(codes.get(1))).isEqualTo(1);
+        assertThat(MoveCodec.toIndex(codes.get(1))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중간의 수를 바로 조회한다.")
+    void codeAt() {
+        // given
+        final PackedMoveHistory moveHistory = createMoveHistory();
+
+        // when
+        final int code = moveHistory.codeAt(150);
+
+        // then
+        assertThat(MoveCodec.fromIndex(code)).isEqualTo(150 % 64);
+        assertThat(MoveCodec.toIndex(code)).isEqualTo(151 % 64);
+        assertThat(moveHistory.codesFrom(150)).hasSize(PLY_COUNT - 150);
+    }
+
+    @Test
+    @DisplayName("저장한 바이트로 기보를 복원한다.")
+    void of() {
+        // given
+        final PackedMoveHistory moveHistory = createMoveHistory();
+
+        // when
+        final PackedMoveHistory actual = PackedMoveHistory.of(moveHistory.toMoveBytes());
+
+        // then
+        assertThat(actual.codesFrom(0)).isEqualTo(moveHistory.codesFrom(0));
+        assertThat(actual.codeAt(99)).isEqualTo(moveHistory.codeAt(99));
+        assertThat(moveHistory.toMoveBytes()).hasSize(PLY_COUNT * MoveCodec.MOVE_SIZE);
+    }
+
+    @Test
+    @DisplayName("복원한 기보에 이어서 수를 기록한다.")
+    void append_afterRestore() {
+        // given
+        final PackedMoveHistory moveHistory = createMoveHistory();
+        final PackedMoveHistory restored = PackedMoveHistory.of(moveHistory.toMoveBytes());
+
+        // when
+        restored.append(Position.from("a2"), Position.from("a4"));
+
+        // then
+        final int code = restored.codeAt(PLY_COUNT);
+        assertThat(Position.fromIndex(MoveCodec.fromIndex(code))).isEqualTo(Position.from("a2"));
+        assertThat(Position.fromIndex(MoveCodec.toIndex(code))).isEqualTo(Position.from("a4"));
+    }
+
+    @Test
+    @DisplayName("수 단위로 나누어 떨어지지 않는 바이트는 복원할 수 없다.")
+    void of_invalidLength() {
+        assertThatThrownBy(() -> PackedMoveHistory.of(new byte[3]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 기보 데이터입니다.");
+    }
+
+    private PackedMoveHistory createMoveHistory() {
+        final PackedMoveHistory moveHistory = PackedMoveHistory.empty();
+        for (int ply = 0; ply < PLY_COUNT; ply++) {
+            moveHistory.append(Position.fromIndex(ply % 64), Position.fromIndex((ply + 1) % 64));
+        }
+        return moveHistory;
+    }
+}
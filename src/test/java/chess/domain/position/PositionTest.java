@@ -93,4 +93,19 @@ class PositionTest {
         // then
         assertThat(actual).isEqualTo(expected);
     }
+
+    @ParameterizedTest
+    @DisplayName("위치를 칸 번호로 변환하고 다시 위치로 복원한다.")
+    @CsvSource(value = {"a1:0", "h1:7", "a2:8", "h8:63"}, delimiter = ':')
+    void toIndex(final String value, final int expected) {
+        // given
+        final Position position = Position.from(value);
+
+        // when
+        final int actual = position.toIndex();
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+        assertThat(Position.fromIndex(actual)).isSameAs(position);
+    }
 }
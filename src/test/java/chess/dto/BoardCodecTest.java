@@ -0,0 +1,28 @@
+package chess.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.chessboard.ChessBoardFactory;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.position.Position;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoardCodecTest {
+
+    @Test
+    @DisplayName("기물 배치를 바이트로 변환한 뒤 다시 복원한다.")
+    void encodeAndDecode() {
+        // given
+        final Map<Position, ChessPiece> pieceByPosition = ChessBoardFactory.createInitPieceByPosition();
+
+        // when
+        final byte[] encoded = BoardCodec.encode(pieceByPosition);
+        final Map<Position, ChessPiece> actual = BoardCodec.decode(encoded);
+
+        // then
+        assertThat(encoded).hasSize(64);
+        assertThat(actual).isEqualTo(pieceByPosition);
+    }
+}
@@ -23,4 +23,18 @@ class ChessPieceMapperTest {
         // then
         assertThat(actual).isEqualTo(King.from(Color.WHITE));
     }
+
+    @Test
+    @DisplayName("FEN 기호가 주어지면 대소문자로 색깔을 구분해 ChessPiece를 반환한다.")
+    void toChessPiece_fenSymbol() {
+        // given
+        final char fenSymbol = 'k';
+
+        // when
+        final ChessPiece actual = ChessPieceMapper.toChessPiece(fenSymbol);
+
+        // then
+        assertThat(actual).isEqualTo(King.from(Color.BLACK));
+        assertThat(ChessPieceMapper.toFenSymbol(King.from(Color.WHITE))).isEqualTo('K');
+    }
 }
@@ -0,0 +1,27 @@
+package chess.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.chessboard.ChessBoardFactory;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.chesspiece.Color;
+import chess.domain.position.Position;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FenMapperTest {
+
+    @Test
+    @DisplayName("초기 체스판을 FEN 문자열로 변환한다.")
+    void toFen() {
+        // given
+        final Map<Position, ChessPiece> pieceByPosition = ChessBoardFactory.createInitPieceByPosition();
+
+        // when
+        final String actual = FenMapper.toFen(pieceByPosition, Color.WHITE);
+
+        // then
+        assertThat(actual).isEqualTo("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1");
+    }
+}
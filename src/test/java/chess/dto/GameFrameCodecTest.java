@@ -0,0 +1,62 @@
+package chess.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.GameStatus;
+import chess.domain.chesspiece.Color;
+import chess.domain.position.Position;
+import chess.dto.GameFrameCodec.MoveFrame;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameFrameCodecTest {
+
+    @Test
+    @DisplayName("이동 프레임에서 순번과 출발, 도착 위치를 읽는다.")
+    void decodeMove() {
+        // given
+        final ByteBuffer payload = ByteBuffer.allocate(GameFrameCodec.MOVE_FRAME_SIZE)
+                .putInt(7)
+                .put((byte) Position.from("a2").toIndex())
+                .put((byte) Position.from("a4").toIndex())
+                .flip();
+
+        // when
+        final MoveFrame moveFrame = GameFrameCodec.decodeMove(payload);
+
+        // then
+        assertThat(moveFrame.getSequence()).isEqualTo(7);
+        assertThat(moveFrame.getFrom()).isEqualTo(Position.from("a2"));
+        assertThat(moveFrame.getTo()).isEqualTo(Position.from("a4"));
+    }
+
+    @Test
+    @DisplayName("길이가 맞지 않는 이동 프레임은 읽을 수 없다.")
+    void decodeMove_invalidLength() {
+        // given
+        final ByteBuffer payload = ByteBuffer.allocate(Integer.BYTES).putInt(7).flip();
+
+        // then
+        assertThatThrownBy(() -> GameFrameCodec.decodeMove(payload))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이동 프레임의 길이가 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("이동 알림은 9바이트로 기록된다.")
+    void encodeMoved() {
+        // when
+        final byte[] frame = GameFrameCodec.encodeMoved(
+                3, Position.from("a2"), Position.from("a4"), GameStatus.PLAYING, Color.BLACK);
+
+        // then
+        final ByteBuffer buffer = ByteBuffer.wrap(frame);
+        assertThat(frame).hasSize(9);
+        assertThat(buffer.get()).isEqualTo((byte) 2);
+        assertThat(buffer.getInt()).isEqualTo(3);
+        assertThat(buffer.get()).isEqualTo((byte) Position.from("a2").toIndex());
+        assertThat(buffer.get()).isEqualTo((byte) Position.from("a4").toIndex());
+    }
+}
@@ -0,0 +1,92 @@
+package chess.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.ChessGame;
+import chess.domain.GameStatus;
+import chess.domain.chessboard.ChessBoardFactory;
+import chess.domain.position.Position;
+import chess.domain.room.Room;
+import chess.dto.request.MoveRequestDto;
+import chess.service.ChessService;
+import chess.service.RoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.FakeChessGameRepository;
+import util.FakeRoomRepository;
+
+class CachingRoomRepositoryTest {
+
+    private RoomCache roomCache;
+    private FakeRoomRepository fakeRoomRepository;
+    private FakeChessGameRepository fakeChessGameRepository;
+    private RoomRepository roomRepository;
+    private ChessGameRepository chessGameRepository;
+
+    @BeforeEach
+    void setUp() {
+        roomCache = new RoomCache(10);
+        fakeRoomRepository = new FakeRoomRepository();
+        fakeChessGameRepository = new FakeChessGameRepository();
+        roomRepository = new CachingRoomRepository(fakeRoomRepository, roomCache);
+        chessGameRepository = new CachingChessGameRepository(fakeChessGameRepository, roomRepository, roomCache);
+    }
+
+    @Test
+    @DisplayName("같은 방을 두 번 조회하면 두 번째 조회는 캐시에서 가져온다.")
+    void get_cached() {
+        // given
+        final int roomId = fakeRoomRepository.add(createRoom());
+
+        // when
+        roomRepository.get(roomId);
+        roomRepository.get(roomId);
+
+        // then
+        assertThat(roomCache.getMissCount()).isEqualTo(1);
+        assertThat(roomCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기물을 이동한 뒤 기물, 점수, 턴 조회는 모두 캐시에서 가져온다.")
+    void move_thenReadsHit() {
+        // given
+        final Room room = createRoom();
+        final int roomId = fakeRoomRepository.add(room);
+        fakeChessGameRepository.add(roomId, room.getChessGame().copy());
+        final ChessService chessService = new ChessService(chessGameRepository, roomRepository, event -> {
+        });
+        final RoomService roomService = new RoomService(roomRepository, chessGameRepository, event -> {
+        });
+        chessService.move(roomId, new MoveRequestDto("a2", "a4"));
+        final long hitCount = roomCache.getHitCount();
+
+        // when
+        chessService.findAllPiece(roomId);
+        chessService.findScore(roomId);
+        roomService.findCurrentTurn(roomId);
+
+        // then
+        assertThat(roomCache.getHitCount()).isEqualTo(hitCount + 3);
+        assertThat(chessGameRepository.get(roomId).getChessBoard().findPiece(Position.from("a4"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("방을 삭제하면 캐시에서도 제거된다.")
+    void remove_evict() {
+        // given
+        final int roomId = fakeRoomRepository.add(createRoom());
+        roomRepository.get(roomId);
+
+        // when
+        roomRepository.remove(roomId);
+
+        // then
+        assertThat(roomCache.size()).isZero();
+    }
+
+    private Room createRoom() {
+        return new Room("test", "1234", new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING));
+    }
+}
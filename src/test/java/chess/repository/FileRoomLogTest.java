@@ -0,0 +1,229 @@
+package chess.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.config.RoomRecordTransactionManager;
+import chess.domain.ChessGame;
+import chess.domain.GameStatus;
+import chess.domain.chessboard.ChessBoardFactory;
+import chess.domain.position.Position;
+import chess.domain.room.Password;
+import chess.domain.room.Room;
+import chess.domain.room.RoomName;
+import chess.dto.request.MoveRequestDto;
+import chess.exception.ConflictException;
+import chess.exception.NotFoundException;
+import chess.service.ChessService;
+import chess.service.RoomService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class FileRoomLogTest {
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private FileRoomLog fileRoomLog;
+    private RoomRepository roomRepository;
+    private ChessGameRepository chessGameRepository;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("chess.log");
+        open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileRoomLog.close();
+    }
+
+    private void open() {
+        fileRoomLog = FileRoomLog.open(path, true, 0);
+        roomRepository = new RoomRecordRepository(fileRoomLog);
+        chessGameRepository = new ChessGameRecordRepository(fileRoomLog);
+    }
+
+    private void reopen() {
+        fileRoomLog.close();
+        open();
+    }
+
+    @Test
+    @DisplayName("저장한 방을 조회한다.")
+    void get() {
+        // given
+        final int roomId = roomRepository.add(new Room("test", "1234"));
+
+        // when
+        final Room actual = roomRepository.get(roomId);
+
+        // then
+        assertThat(actual.getName()).isEqualTo("test");
+        assertThat(actual.getGameStatus()).isEqualTo(GameStatus.READY);
+        assertThat(actual.getChessGame().getChessBoard().findAllPiece()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 방을 조회하면 예외가 터진다.")
+    void get_exception() {
+        assertThatThrownBy(() -> roomRepository.get(1))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("방이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("이름이 같은 방을 저장하면 예외가 터진다.")
+    void add_duplicateName() {
+        // given
+        roomRepository.add(new Room("test", "1234"));
+
+        // then
+        assertThatThrownBy(() -> roomRepository.add(new Room("test", "1234")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이름이 같은 방이 이미 존재합니다.");
+    }
+
+    @Test
+    @DisplayName("이미 변경된 방을 수정하면 예외가 터진다.")
+    void update_conflict() {
+        // given
+        final int roomId = roomRepository.add(new Room("test", "1234"));
+        final Room staleRoom = roomRepository.get(roomId);
+        roomRepository.update(roomId, roomRepository.get(roomId));
+
+        // then
+        assertThatThrownBy(() -> roomRepository.update(roomId, staleRoom))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    @DisplayName("다시 열면 로그를 읽어 마지막 상태를 복구한다.")
+    void open_rebuild() {
+        // given
+        final int roomId = startGame();
+        createChessService().move(roomId, new MoveRequestDto("a2", "a4"));
+
+        // when
+        reopen();
+
+        // then
+        final Room actual = roomRepository.get(roomId);
+        assertThat(actual.getChessGame().getChessBoard().findPiece(Position.from("a4"))).isNotNull();
+        assertThat(actual.getCurrentTurn().isBlack()).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그 끝에 잘린 레코드가 있으면 잘라내고 복구한다.")
+    void open_truncateTornTail() throws IOException {
+        // given
+        final int roomId = roomRepository.add(new Room("test", "1234"));
+        fileRoomLog.close();
+        Files.write(path, new byte[]{0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        // when
+        open();
+
+        // then
+        assertThat(roomRepository.get(roomId).getName()).isEqualTo("test");
+        roomRepository.add(new Room("other", "1234"));
+        reopen();
+        assertThat(roomRepository.getAll(1, 10).getRooms()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("압축하면 대체된 레코드를 지우고 최신 상태와 방 번호를 유지한다.")
+    void compact() {
+        // given
+        final int roomId = startGame();
+        final ChessService chessService = createChessService();
+        chessService.move(roomId, new MoveRequestDto("a2", "a4"));
+        chessService.move(roomId, new MoveRequestDto("a7", "a5"));
+        final int deletedRoomId = roomRepository.add(new Room("deleted", "1234"));
+        roomRepository.remove(deletedRoomId);
+        final long beforeSize = fileRoomLog.getFileSize();
+
+        // when
+        final boolean compacted = fileRoomLog.compactIfNeeded();
+        reopen();
+
+        // then
+        assertThat(compacted).isTrue();
+        assertThat(fileRoomLog.getFileSize()).isLessThan(beforeSize);
+        assertThat(roomRepository.get(roomId).getChessGame().getChessBoard().findPiece(Position.from("a5")))
+                .isNotNull();
+        assertThat(roomRepository.add(new Room("new", "1234"))).isEqualTo(deletedRoomId + 1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 기록하지 않는다.")
+    void transaction_rollback() {
+        // given
+        final int roomId = startGame();
+        final TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new RoomRecordTransactionManager(fileRoomLog));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            chessGameRepository.update(roomId, Position.from("a2"), Position.from("a4"));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(chessGameRepository.get(roomId).getChessBoard().findPiece(Position.from("a2"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록하면 한 번의 fsync로 여러 커밋을 함께 반영한다.")
+    void commit_groupCommit() throws Exception {
+        // given
+        final int commitCount = 200;
+        final Password password = Password.fromPlain("1234");
+        final ExecutorService executorService = Executors.newFixedThreadPool(16);
+        final List<Future<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < commitCount; i++) {
+            final String name = "room" + i;
+            futures.add(executorService.submit(() -> roomRepository.add(new Room(new RoomName(name), password,
+                    new ChessGame(ChessBoardFactory.createChessBoard())))));
+        }
+        for (final Future<Integer> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        final long forceCount = fileRoomLog.getForceCount();
+        reopen();
+
+        // then
+        assertThat(forceCount).isLessThan(commitCount);
+        assertThat(roomRepository.getAll(1, 10).getLastPage()).isEqualTo(commitCount / 10);
+    }
+
+    private int startGame() {
+        final int roomId = roomRepository.add(new Room("test", "1234"));
+        new RoomService(roomRepository, chessGameRepository, event -> {
+        }).startGame(roomId);
+        return roomId;
+    }
+
+    private ChessService createChessService() {
+        return new ChessService(chessGameRepository, roomRepository, event -> {
+        });
+    }
+}
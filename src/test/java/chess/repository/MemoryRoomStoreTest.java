@@ -0,0 +1,109 @@
+package chess.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.position.Position;
+import chess.domain.room.Room;
+import chess.dto.request.MoveRequestDto;
+import chess.service.ChessService;
+import chess.service.RoomService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MemoryRoomStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("스냅샷을 저장하고 다시 열면 방과 기물을 복구한다.")
+    void saveSnapshot_thenOpen() {
+        // given
+        final Path snapshotPath = directory.resolve("chess.snapshot");
+        final MemoryRoomStore memoryRoomStore = MemoryRoomStore.open(snapshotPath);
+        final RoomRepository roomRepository = new RoomRecordRepository(memoryRoomStore);
+        final ChessGameRepository chessGameRepository = new ChessGameRecordRepository(memoryRoomStore);
+        final int roomId = roomRepository.add(new Room("test", "1234"));
+        new RoomService(roomRepository, chessGameRepository, event -> {
+        }).startGame(roomId);
+        new ChessService(chessGameRepository, roomRepository, event -> {
+        }).move(roomId, new MoveRequestDto("a2", "a4"));
+
+        // when
+        final boolean saved = memoryRoomStore.saveSnapshot();
+        final MemoryRoomStore reopened = MemoryRoomStore.open(snapshotPath);
+
+        // then
+        assertThat(saved).isTrue();
+        final Room actual = new RoomRecordRepository(reopened).get(roomId);
+        assertThat(actual.getChessGame().getChessBoard().findPiece(Position.from("a4"))).isNotNull();
+        assertThat(new RoomRecordRepository(reopened).add(new Room("new", "1234"))).isEqualTo(roomId + 1);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 스냅샷을 다시 저장하지 않는다.")
+    void saveSnapshot_unchanged() {
+        // given
+        final MemoryRoomStore memoryRoomStore = MemoryRoomStore.open(directory.resolve("chess.snapshot"));
+        new RoomRecordRepository(memoryRoomStore).add(new Room("test", "1234"));
+        memoryRoomStore.saveSnapshot();
+
+        // when
+        final boolean actual = memoryRoomStore.saveSnapshot();
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷은 불러오지 않는다.")
+    void open_corrupted() throws IOException {
+        // given
+        final Path snapshotPath = directory.resolve("chess.snapshot");
+        final MemoryRoomStore memoryRoomStore = MemoryRoomStore.open(snapshotPath);
+        new RoomRecordRepository(memoryRoomStore).add(new Room("test", "1234"));
+        memoryRoomStore.saveSnapshot();
+        final byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(snapshotPath, bytes);
+
+        // then
+        assertThatThrownBy(() -> MemoryRoomStore.open(snapshotPath))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("스냅샷 파일이 손상되었습니다.");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 방을 만들어도 번호가 겹치지 않는다.")
+    void add_concurrent() throws Exception {
+        // given
+        final RoomRepository roomRepository = new RoomRecordRepository(MemoryRoomStore.open(null));
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        final List<Future<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            final String name = "room" + i;
+            futures.add(executorService.submit(() -> roomRepository.add(new Room(name, "1234"))));
+        }
+        final List<Integer> roomIds = new ArrayList<>();
+        for (final Future<Integer> future : futures) {
+            roomIds.add(future.get());
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(roomIds).doesNotHaveDuplicates();
+        assertThat(roomRepository.getAll(1, 10).getLastPage()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,134 @@
+package chess.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.ChessGame;
+import chess.domain.GameStatus;
+import chess.domain.chessboard.ChessBoard;
+import chess.domain.chessboard.ChessBoardFactory;
+import chess.domain.chesspiece.Color;
+import chess.domain.position.Position;
+import chess.domain.room.Room;
+import java.util.HashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomCacheTest {
+
+    @Test
+    @DisplayName("캐시에 저장된 방을 조회하면 hit 이 증가한다.")
+    void find_hit() {
+        // given
+        final RoomCache roomCache = new RoomCache(10);
+        roomCache.put(1, createRoom());
+
+        // when
+        final boolean actual = roomCache.find(1).isPresent();
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(roomCache.getHitCount()).isEqualTo(1);
+        assertThat(roomCache.getMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 방을 조회하면 miss 가 증가한다.")
+    void find_miss() {
+        // given
+        final RoomCache roomCache = new RoomCache(10);
+
+        // when
+        final boolean actual = roomCache.find(1).isPresent();
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(roomCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 방이 제거된다.")
+    void put_evictLeastRecentlyUsed() {
+        // given
+        final RoomCache roomCache = new RoomCache(2);
+        roomCache.put(1, createRoom());
+        roomCache.put(2, createRoom());
+        roomCache.find(1);
+
+        // when
+        roomCache.put(3, createRoom());
+
+        // then
+        assertThat(roomCache.find(1)).isPresent();
+        assertThat(roomCache.find(2)).isEmpty();
+        assertThat(roomCache.find(3)).isPresent();
+        assertThat(roomCache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회한 방을 변경해도 캐시된 방은 변경되지 않는다.")
+    void find_returnsCopy() {
+        // given
+        final RoomCache roomCache = new RoomCache(10);
+        roomCache.put(1, createRoom());
+
+        // when
+        final Room room = roomCache.find(1).orElseThrow();
+        room.getChessGame().move(Position.from("a2"), Position.from("a4"));
+
+        // then
+        final Room actual = roomCache.find(1).orElseThrow();
+        assertThat(actual.getChessGame().getChessBoard().findPiece(Position.from("a2"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("캐시된 방보다 오래된 버전은 저장하지 않는다.")
+    void put_olderVersion() {
+        // given
+        final RoomCache roomCache = new RoomCache(10);
+        final Room room = createRoom();
+        room.increaseVersion();
+        roomCache.put(1, room);
+
+        // when
+        roomCache.put(1, createRoom());
+
+        // then
+        assertThat(roomCache.find(1).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기물을 아직 불러오지 않은 방은 캐시에 저장하지 않는다.")
+    void put_unloadedBoard() {
+        // given
+        final RoomCache roomCache = new RoomCache(10);
+        final ChessBoard chessBoard = new ChessBoard(HashMap::new, Color.WHITE);
+        final Room room = new Room("test", "1234", new ChessGame(chessBoard, GameStatus.PLAYING));
+
+        // when
+        roomCache.put(1, room);
+
+        // then
+        assertThat(roomCache.find(1)).isEmpty();
+        assertThat(chessBoard.isLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제 전에 불러온 방을 삭제 뒤에 저장해도 캐시에 다시 올라가지 않는다.")
+    void put_afterRemove() {
+        // given
+        final RoomCache roomCache = new RoomCache(10);
+        roomCache.put(1, createRoom());
+        final Room loadedBeforeRemove = createRoom();
+
+        // when
+        roomCache.remove(1);
+        roomCache.put(1, loadedBeforeRemove);
+
+        // then
+        assertThat(roomCache.find(1)).isEmpty();
+    }
+
+    private Room createRoom() {
+        return new Room("test", "1234", new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING));
+    }
+}
@@ -0,0 +1,56 @@
+package chess.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomNameBloomFilterTest {
+
+    @Test
+    @DisplayName("이름을 모두 불러오기 전에는 모든 이름이 존재할 수 있다고 판단한다.")
+    void mightContain_notReady() {
+        // given
+        final RoomNameBloomFilter roomNameBloomFilter = new RoomNameBloomFilter(100, 0.01);
+
+        // when
+        final boolean actual = roomNameBloomFilter.mightContain("test");
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가한 이름은 항상 존재할 수 있다고 판단한다.")
+    void mightContain_added() {
+        // given
+        final RoomNameBloomFilter roomNameBloomFilter = new RoomNameBloomFilter(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> roomNameBloomFilter.put("room" + i));
+        roomNameBloomFilter.markReady();
+
+        // when
+        final boolean actual = IntStream.range(0, 1000)
+                .allMatch(i -> roomNameBloomFilter.mightContain("room" + i));
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 이름은 대부분 존재하지 않는다고 판단한다.")
+    void mightContain_absent() {
+        // given
+        final RoomNameBloomFilter roomNameBloomFilter = new RoomNameBloomFilter(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> roomNameBloomFilter.put("room" + i));
+        roomNameBloomFilter.markReady();
+
+        // when
+        final long falsePositiveCount = IntStream.range(0, 1000)
+                .filter(i -> roomNameBloomFilter.mightContain("other" + i))
+                .count();
+
+        // then
+        assertThat(falsePositiveCount).isLessThan(50);
+    }
+}
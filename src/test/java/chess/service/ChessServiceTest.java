@@ -12,10 +12,13 @@ import chess.domain.chesspiece.King;
 import chess.domain.chesspiece.Knight;
 import chess.domain.chesspiece.Queen;
 import chess.domain.position.Position;
+import chess.dto.request.MoveBatchRequestDto;
 import chess.dto.request.MoveRequestDto;
 import chess.dto.response.ChessPieceDto;
+import chess.dto.response.MoveDto;
 import chess.entity.ChessPieceEntity;
 import chess.entity.RoomEntity;
+import chess.exception.IllegalMoveException;
 import chess.exception.NotFoundException;
 import java.util.HashMap;
 import java.util.List;
@@ -33,6 +36,9 @@ class ChessServiceTest {
     @Autowired
     private ChessService chessService;
 
+    @Autowired
+    private MoveHistoryService moveHistoryService;
+
     @Autowired
     private RoomDao roomDao;
 
@@ -94,6 +100,28 @@ class ChessServiceTest {
         assertThat(actual.getValue()).isEqualTo(to);
     }
 
+    @Test
+    @DisplayName("기물을 이동하면 기보에 기록된다.")
+    void move_recordHistory() {
+        // given
+        final int roomId = roomDao.save(new RoomEntity("test", GameStatus.PLAYING, Color.WHITE, "1234"));
+        final Map<Position, ChessPiece> pieceByPosition = new HashMap<>();
+        pieceByPosition.put(Position.from("a1"), King.from(Color.WHITE));
+        pieceByPosition.put(Position.from("h8"), King.from(Color.BLACK));
+        chessPieceDao.saveAll(roomId, pieceByPosition);
+
+        // when
+        chessService.move(roomId, new MoveRequestDto("a1", "b2"));
+        chessService.move(roomId, new MoveRequestDto("h8", "g7"));
+
+        // then
+        final List<MoveDto> actual = moveHistoryService.findMoves(roomId, 1);
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getPly()).isEqualTo(1);
+        assertThat(actual.get(0).getFrom()).isEqualTo("h8");
+        assertThat(actual.get(0).getTo()).isEqualTo("g7");
+    }
+
     @Test
     @DisplayName("기물을 이동하면 방의 상태가 변경된다.")
     void move_updateRoom() {
@@ -118,6 +146,59 @@ class ChessServiceTest {
         assertThat(actual).isEqualTo(initialTurn.toOpposite());
     }
 
+    @Test
+    @DisplayName("여러 수를 한 번에 이동하면 마지막 배치가 저장된다.")
+    void moveAll() {
+        // given
+        final int roomId = roomDao.save(new RoomEntity("test", GameStatus.PLAYING, Color.WHITE, "1234"));
+        final Map<Position, ChessPiece> pieceByPosition = new HashMap<>();
+        pieceByPosition.put(Position.from("a1"), King.from(Color.WHITE));
+        pieceByPosition.put(Position.from("h8"), King.from(Color.BLACK));
+        chessPieceDao.saveAll(roomId, pieceByPosition);
+
+        // when
+        chessService.moveAll(roomId, new MoveBatchRequestDto(List.of(
+                new MoveRequestDto("a1", "b2"),
+                new MoveRequestDto("h8", "g7"),
+                new MoveRequestDto("b2", "c3"))));
+
+        // then
+        final List<ChessPieceEntity> allPiece = chessPieceDao.findAllEntityByRoomId(roomId);
+        assertThat(allPiece).extracting(it -> it.toPosition().getValue())
+                .containsExactlyInAnyOrder("c3", "g7");
+        assertThat(roomDao.findById(roomId).toCurrentTurn()).isEqualTo(Color.BLACK);
+        assertThat(roomDao.findById(roomId).getVersion()).isEqualTo(3);
+        assertThat(moveHistoryService.findMoves(roomId, 0)).extracting(MoveDto::getTo)
+                .containsExactly("b2", "g7", "c3");
+    }
+
+    @Test
+    @DisplayName("여러 수 중 잘못된 수가 있으면 그 순번을 알려주고 아무 수도 저장하지 않는다.")
+    void moveAll_illegalMove() {
+        // given
+        final int roomId = roomDao.save(new RoomEntity("test", GameStatus.PLAYING, Color.WHITE, "1234"));
+        final Map<Position, ChessPiece> pieceByPosition = new HashMap<>();
+        pieceByPosition.put(Position.from("a1"), King.from(Color.WHITE));
+        pieceByPosition.put(Position.from("h8"), King.from(Color.BLACK));
+        chessPieceDao.saveAll(roomId, pieceByPosition);
+        final MoveBatchRequestDto dto = new MoveBatchRequestDto(List.of(
+                new MoveRequestDto("a1", "b2"),
+                new MoveRequestDto("b2", "c3")));
+
+        // when
+        assertThatThrownBy(() -> chessService.moveAll(roomId, dto))
+                .isInstanceOf(IllegalMoveException.class)
+                .hasMessage("BLACK의 차례입니다.")
+                .extracting("moveIndex")
+                .isEqualTo(1);
+
+        // then
+        final List<ChessPieceEntity> allPiece = chessPieceDao.findAllEntityByRoomId(roomId);
+        assertThat(allPiece).extracting(it -> it.toPosition().getValue())
+                .containsExactlyInAnyOrder("a1", "h8");
+        assertThat(roomDao.findById(roomId).toCurrentTurn()).isEqualTo(Color.WHITE);
+    }
+
     @Test
     @DisplayName("결과를 조회하면 방 상태가 END로 변경된다.")
     void result() {
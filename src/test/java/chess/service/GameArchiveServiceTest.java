@@ -0,0 +1,105 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.dao.ChessPieceDao;
+import chess.dao.RoomDao;
+import chess.domain.GameStatus;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.chesspiece.Color;
+import chess.domain.chesspiece.King;
+import chess.domain.chesspiece.Queen;
+import chess.domain.position.Position;
+import chess.dto.response.ArchivedGameDto;
+import chess.entity.RoomEntity;
+import chess.exception.NotFoundException;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql({"/schema.sql"})
+class GameArchiveServiceTest {
+
+    @Autowired
+    private GameArchiveService gameArchiveService;
+
+    @Autowired
+    private RoomDao roomDao;
+
+    @Autowired
+    private ChessPieceDao chessPieceDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("오래전에 종료된 게임을 보관하고 기존 테이블에서 삭제한다.")
+    void archiveFinishedGames() {
+        // given
+        final int roomId = createRoom("test", GameStatus.KING_DIE);
+        makeOld(roomId);
+
+        // when
+        final int archivedCount = gameArchiveService.archiveFinishedGames();
+
+        // then
+        assertThat(archivedCount).isEqualTo(1);
+        assertThat(chessPieceDao.findAllEntityByRoomId(roomId)).isEmpty();
+        assertThatThrownBy(() -> roomDao.findById(roomId))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("진행 중이거나 최근에 종료된 게임은 보관하지 않는다.")
+    void archiveFinishedGames_skip() {
+        // given
+        final int playingRoomId = createRoom("playing", GameStatus.PLAYING);
+        makeOld(playingRoomId);
+        createRoom("end", GameStatus.END);
+
+        // when
+        final int archivedCount = gameArchiveService.archiveFinishedGames();
+
+        // then
+        assertThat(archivedCount).isZero();
+    }
+
+    @Test
+    @DisplayName("보관된 게임의 기물과 점수를 조회한다.")
+    void findArchivedGame() {
+        // given
+        final int roomId = createRoom("test", GameStatus.END);
+        makeOld(roomId);
+        gameArchiveService.archiveFinishedGames();
+
+        // when
+        final ArchivedGameDto actual = gameArchiveService.findArchivedGame(roomId);
+
+        // then
+        assertThat(actual.getRoomName()).isEqualTo("test");
+        assertThat(actual.getGameStatus()).isEqualTo(GameStatus.END);
+        assertThat(actual.getPieces()).hasSize(2);
+        assertThat(actual.getScore().getWhiteScore()).isEqualTo(9.0);
+    }
+
+    private int createRoom(final String roomName, final GameStatus gameStatus) {
+        final int roomId = roomDao.save(new RoomEntity(roomName, gameStatus, Color.WHITE, "1234"));
+        final Map<Position, ChessPiece> pieceByPosition = new HashMap<>();
+        pieceByPosition.put(Position.from("a1"), King.from(Color.WHITE));
+        pieceByPosition.put(Position.from("a2"), Queen.from(Color.WHITE));
+        chessPieceDao.saveAll(roomId, pieceByPosition);
+        return roomId;
+    }
+
+    private void makeOld(final int roomId) {
+        jdbcTemplate.update("UPDATE room SET updated_at = DATEADD('DAY', -2, CURRENT_TIMESTAMP) WHERE room_id = ?",
+                roomId);
+    }
+}
@@ -0,0 +1,85 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.dao.ChessPieceDao;
+import chess.dao.RoomDao;
+import chess.domain.GameStatus;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.chesspiece.Color;
+import chess.domain.chesspiece.King;
+import chess.domain.chesspiece.Queen;
+import chess.domain.position.Position;
+import chess.dto.ExportFormat;
+import chess.dto.request.GameExportRequestDto;
+import chess.entity.RoomEntity;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql({"/schema.sql"})
+class GameExportServiceTest {
+
+    @Autowired
+    private GameExportService gameExportService;
+
+    @Autowired
+    private RoomDao roomDao;
+
+    @Autowired
+    private ChessPieceDao chessPieceDao;
+
+    @Test
+    @DisplayName("게임마다 한 줄씩 NDJSON으로 내보낸다.")
+    void export_ndjson() throws IOException {
+        // given
+        createRoom("playing", GameStatus.PLAYING);
+        createRoom("ready", GameStatus.READY);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        gameExportService.export(ExportFormat.NDJSON, GameExportRequestDto.of(List.of(), null, null), outputStream);
+
+        // then
+        final String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"fen\":\"8/8/8/8/8/8/Q7/K7 w - - 0 1\"");
+    }
+
+    @Test
+    @DisplayName("상태와 방 번호 범위로 걸러서 EPD로 내보낸다.")
+    void export_epdWithFilter() throws IOException {
+        // given
+        createRoom("first", GameStatus.KING_DIE);
+        final int roomId = createRoom("second", GameStatus.KING_DIE);
+        createRoom("third", GameStatus.PLAYING);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final GameExportRequestDto request = GameExportRequestDto.of(List.of("king_die"), roomId, null);
+
+        // when
+        gameExportService.export(ExportFormat.EPD, request, outputStream);
+
+        // then
+        final String actual = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(actual).isEqualTo(
+                "8/8/8/8/8/8/Q7/K7 w - - id \"" + roomId + "\"; c0 \"second\"; c1 \"1-0\";\n");
+    }
+
+    private int createRoom(final String roomName, final GameStatus gameStatus) {
+        final int roomId = roomDao.save(new RoomEntity(roomName, gameStatus, Color.WHITE, "1234"));
+        final Map<Position, ChessPiece> pieceByPosition = new HashMap<>();
+        pieceByPosition.put(Position.from("a1"), King.from(Color.WHITE));
+        pieceByPosition.put(Position.from("a2"), Queen.from(Color.WHITE));
+        chessPieceDao.saveAll(roomId, pieceByPosition);
+        return roomId;
+    }
+}
@@ -0,0 +1,72 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.position.Position;
+import chess.dto.response.RoomStateDto;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+class NextMoveNotifierTest {
+
+    private final ExecutorService completionExecutor = Executors.newSingleThreadExecutor();
+    private final NextMoveNotifier nextMoveNotifier = new NextMoveNotifier(Duration.ofMinutes(1), completionExecutor);
+
+    @AfterEach
+    void tearDown() {
+        completionExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("요청한 버전 이후에 이미 변경된 방은 기다리지 않고 응답한다.")
+    void await_alreadyChanged() {
+        // when
+        final DeferredResult<ResponseEntity<RoomStateDto>> actual = nextMoveNotifier.await(1, 2, () -> 3, () -> null);
+
+        // then
+        assertThat(actual.hasResult()).isTrue();
+        assertThat(((ResponseEntity<?>) actual.getResult()).getHeaders().getETag()).isEqualTo("\"3\"");
+        assertThat(nextMoveNotifier.getWaiterCount(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("기물이 이동하면 기다리던 요청이 완료된다.")
+    void onPieceMoved() throws InterruptedException {
+        // given
+        final DeferredResult<ResponseEntity<RoomStateDto>> actual = nextMoveNotifier.await(1, 2, () -> 2, () -> null);
+        assertThat(actual.hasResult()).isFalse();
+        assertThat(nextMoveNotifier.getWaiterCount(1)).isEqualTo(1);
+
+        // when
+        nextMoveNotifier.onPieceMoved(PieceMovedEvent.of(1, Position.from("a2"), Position.from("a4"), 3, null));
+        completionExecutor.shutdown();
+        completionExecutor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual.hasResult()).isTrue();
+        assertThat(nextMoveNotifier.getWaiterCount(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("요청한 버전보다 새롭지 않은 변경에는 기다리던 요청이 그대로 남는다.")
+    void onPieceMoved_notNewer() throws InterruptedException {
+        // given
+        final DeferredResult<ResponseEntity<RoomStateDto>> actual = nextMoveNotifier.await(1, 3, () -> 2, () -> null);
+
+        // when
+        nextMoveNotifier.onPieceMoved(PieceMovedEvent.of(1, Position.from("a2"), Position.from("a4"), 3, null));
+        completionExecutor.shutdown();
+        completionExecutor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual.hasResult()).isFalse();
+        assertThat(nextMoveNotifier.getWaiterCount(1)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,94 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.position.Position;
+import chess.domain.room.Room;
+import chess.dto.response.RoomStateDto;
+import chess.exception.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomEventBroadcasterTest {
+
+    private final ThreadPoolExecutor dispatchExecutor =
+            new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    private final CountDownLatch dispatchBlocker = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        dispatchBlocker.countDown();
+        dispatchExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("방을 구독하면 구독자 수가 증가한다.")
+    void subscribe() {
+        // given
+        final RoomEventBroadcaster roomEventBroadcaster = createBroadcaster(32);
+
+        // when
+        roomEventBroadcaster.subscribe(1, this::createState);
+        roomEventBroadcaster.subscribe(1, this::createState);
+
+        // then
+        assertThat(roomEventBroadcaster.getSubscriberCount(1)).isEqualTo(2);
+        assertThat(roomEventBroadcaster.getSubscriberCount(2)).isZero();
+    }
+
+    @Test
+    @DisplayName("처음 상태를 불러오지 못하면 구독하지 않는다.")
+    void subscribe_exception() {
+        // given
+        final RoomEventBroadcaster roomEventBroadcaster = createBroadcaster(32);
+
+        // then
+        assertThatThrownBy(() -> roomEventBroadcaster.subscribe(1, () -> {
+            throw new NotFoundException("방이 존재하지 않습니다.");
+        })).isInstanceOf(NotFoundException.class);
+        assertThat(roomEventBroadcaster.getSubscriberCount(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찬 구독자는 연결이 끊긴다.")
+    void onPieceMoved_dropSlowSubscriber() {
+        // given
+        final RoomEventBroadcaster roomEventBroadcaster = createBroadcaster(1);
+        dispatchExecutor.execute(this::awaitBlocker);
+        roomEventBroadcaster.subscribe(1, this::createState);
+
+        // when
+        roomEventBroadcaster.onPieceMoved(
+                PieceMovedEvent.of(1, Position.from("a2"), Position.from("a4"), 1, null));
+        roomEventBroadcaster.onPieceMoved(
+                PieceMovedEvent.of(1, Position.from("a7"), Position.from("a5"), 2, null));
+
+        // then
+        assertThat(roomEventBroadcaster.getSubscriberCount(1)).isZero();
+    }
+
+    private RoomEventBroadcaster createBroadcaster(final int bufferSize) {
+        return new RoomEventBroadcaster(new ObjectMapper(), bufferSize, Duration.ofMinutes(1), Duration.ofSeconds(5),
+                4, dispatchExecutor);
+    }
+
+    private RoomStateDto createState() {
+        return RoomStateDto.of(1, new Room("room", "1234"));
+    }
+
+    private void awaitBlocker() {
+        try {
+            dispatchBlocker.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.dao.ChessPieceDao;
+import chess.dao.RoomDao;
+import chess.domain.GameStatus;
+import chess.domain.chesspiece.ChessPiece;
+import chess.domain.chesspiece.Color;
+import chess.domain.chesspiece.King;
+import chess.domain.position.Position;
+import chess.entity.RoomEntity;
+import chess.exception.NotFoundException;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql({"/schema.sql"})
+class RoomPurgeServiceTest {
+
+    @Autowired
+    private RoomPurgeService roomPurgeService;
+
+    @Autowired
+    private RoomDao roomDao;
+
+    @Autowired
+    private ChessPieceDao chessPieceDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("보관 기간이 지난 삭제된 방과 기물을 완전히 삭제한다.")
+    void purgeDeletedRooms() {
+        // given
+        final int roomId = createRoom("test");
+        roomDao.deleteById(roomId);
+        makeOld(roomId);
+
+        // when
+        final int purgedRows = roomPurgeService.purgeDeletedRooms();
+
+        // then
+        assertThat(purgedRows).isEqualTo(2);
+        assertThat(chessPieceDao.findAllEntityByRoomId(roomId)).isEmpty();
+        assertThatThrownBy(() -> roomDao.findById(roomId))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("삭제되지 않았거나 보관 기간이 지나지 않은 방은 남겨둔다.")
+    void purgeDeletedRooms_keep() {
+        // given
+        final int activeRoomId = createRoom("active");
+        makeOld(activeRoomId);
+        final int recentlyDeletedRoomId = createRoom("recent");
+        roomDao.deleteById(recentlyDeletedRoomId);
+
+        // when
+        final int purgedRows = roomPurgeService.purgeDeletedRooms();
+
+        // then
+        assertThat(purgedRows).isZero();
+        assertThat(roomDao.findById(activeRoomId)).isNotNull();
+        assertThat(roomDao.findById(recentlyDeletedRoomId)).isNotNull();
+    }
+
+    private int createRoom(final String roomName) {
+        final int roomId = roomDao.save(new RoomEntity(roomName, GameStatus.END, Color.WHITE, "1234"));
+        final Map<Position, ChessPiece> pieceByPosition = new HashMap<>();
+        pieceByPosition.put(Position.from("a1"), King.from(Color.WHITE));
+        chessPieceDao.saveAll(roomId, pieceByPosition);
+        return roomId;
+    }
+
+    private void makeOld(final int roomId) {
+        jdbcTemplate.update("UPDATE room SET updated_at = DATEADD('DAY', -30, CURRENT_TIMESTAMP) WHERE room_id = ?",
+                roomId);
+    }
+}
@@ -3,13 +3,23 @@ package chess.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import chess.dao.ChessPieceDao;
 import chess.dao.RoomDao;
 import chess.domain.GameStatus;
 import chess.domain.chesspiece.Color;
+import chess.domain.chesspiece.King;
+import chess.domain.chesspiece.Queen;
+import chess.domain.position.Position;
 import chess.dto.request.RoomCreationRequestDto;
 import chess.dto.request.RoomDeletionRequestDto;
+import chess.dto.request.RoomStatesRequestDto;
+import chess.dto.response.RoomStateDto;
 import chess.entity.RoomEntity;
 import chess.exception.NotFoundException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -26,6 +36,9 @@ class RoomServiceTest {
     @Autowired
     private RoomDao roomDao;
 
+    @Autowired
+    private ChessPieceDao chessPieceDao;
+
     @Autowired
     private RoomService roomService;
 
@@ -147,4 +160,43 @@ class RoomServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("게임이 진행 중입니다.");
     }
+
+    @Test
+    @DisplayName("여러 방의 상태를 요청한 순서대로 한 번에 조회한다.")
+    void findStates() {
+        // given
+        final int firstRoomId = roomDao.save(new RoomEntity("first", GameStatus.READY, Color.WHITE, "1234"));
+        final int secondRoomId = roomDao.save(new RoomEntity("second", GameStatus.PLAYING, Color.BLACK, "1234"));
+        chessPieceDao.saveAll(secondRoomId, Map.of(
+                Position.from("a1"), King.from(Color.WHITE),
+                Position.from("h8"), Queen.from(Color.BLACK)));
+        final int deletedRoomId = roomDao.save(new RoomEntity("deleted", GameStatus.END, Color.WHITE, "1234"));
+        roomDao.deleteById(deletedRoomId);
+
+        // when
+        final List<RoomStateDto> actual = roomService.findStates(
+                new RoomStatesRequestDto(List.of(secondRoomId, firstRoomId, deletedRoomId, 999)));
+
+        // then
+        assertThat(actual).extracting(RoomStateDto::getRoomId)
+                .containsExactly(secondRoomId, firstRoomId);
+        assertThat(actual.get(0).getCurrentTurn()).isEqualTo("black");
+        assertThat(actual.get(0).getPieces()).hasSize(2);
+        assertThat(actual.get(0).getBlackScore()).isEqualTo(9);
+        assertThat(actual.get(1).getPieces()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 방의 수를 넘으면 예외가 발생한다.")
+    void findStates_exception_too_many() {
+        // given
+        final List<Integer> roomIds = IntStream.rangeClosed(1, 201)
+                .boxed()
+                .collect(Collectors.toList());
+
+        // then
+        assertThatThrownBy(() -> roomService.findStates(new RoomStatesRequestDto(roomIds)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("한 번에 조회할 수 있는 방은 최대 200개입니다.");
+    }
 }
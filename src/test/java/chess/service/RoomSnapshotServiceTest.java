@@ -0,0 +1,93 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.ChessGame;
+import chess.domain.GameStatus;
+import chess.domain.chessboard.ChessBoardFactory;
+import chess.domain.room.Room;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.FakeChessGameRepository;
+import util.FakeRoomRepository;
+
+class RoomSnapshotServiceTest {
+
+    private final FakeRoomRepository roomRepository = new FakeRoomRepository();
+
+    @Test
+    @DisplayName("같은 버전의 방은 한 번 직렬화한 스냅샷을 다시 사용한다.")
+    void find_sameVersion() {
+        // given
+        final RoomSnapshotService roomSnapshotService = createRoomSnapshotService(10);
+        final int roomId = roomRepository.add(createRoom());
+        final RoomSnapshot expected = roomSnapshotService.find(roomId, 0);
+
+        // when
+        final RoomSnapshot actual = roomSnapshotService.find(roomId, 0);
+
+        // then
+        assertThat(actual).isSameAs(expected);
+    }
+
+    @Test
+    @DisplayName("방의 버전이 올라가면 스냅샷을 새로 만든다.")
+    void find_newerVersion() {
+        // given
+        final RoomSnapshotService roomSnapshotService = createRoomSnapshotService(10);
+        final int roomId = roomRepository.add(createRoom());
+        final RoomSnapshot previous = roomSnapshotService.find(roomId, 0);
+        roomRepository.update(roomId, roomRepository.get(roomId));
+
+        // when
+        final RoomSnapshot actual = roomSnapshotService.find(roomId, 1);
+
+        // then
+        assertThat(actual).isNotSameAs(previous);
+        assertThat(actual.getVersion()).isEqualTo(1);
+        assertThat(actual.hasPieces()).isTrue();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 스냅샷을 버린다.")
+    void find_overMaxSize() {
+        // given
+        final RoomSnapshotService roomSnapshotService = createRoomSnapshotService(1);
+        final int firstRoomId = roomRepository.add(createRoom());
+        final int secondRoomId = roomRepository.add(createRoom());
+        roomSnapshotService.find(firstRoomId, 0);
+
+        // when
+        roomSnapshotService.find(secondRoomId, 0);
+
+        // then
+        assertThat(roomSnapshotService.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 방의 스냅샷은 버린다.")
+    void onRoomsRemoved() {
+        // given
+        final RoomSnapshotService roomSnapshotService = createRoomSnapshotService(10);
+        final int roomId = roomRepository.add(createRoom());
+        roomSnapshotService.find(roomId, 0);
+
+        // when
+        roomSnapshotService.onRoomsRemoved(RoomsRemovedEvent.of(List.of(roomId)));
+
+        // then
+        assertThat(roomSnapshotService.size()).isZero();
+    }
+
+    private RoomSnapshotService createRoomSnapshotService(final int maxSize) {
+        final RoomService roomService = new RoomService(roomRepository, new FakeChessGameRepository(), event -> {
+        });
+        return new RoomSnapshotService(roomService, new ObjectMapper(), maxSize);
+    }
+
+    private Room createRoom() {
+        return new Room("test", "1234", new ChessGame(ChessBoardFactory.createChessBoard(), GameStatus.PLAYING));
+    }
+}
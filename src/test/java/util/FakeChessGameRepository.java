@@ -27,11 +27,20 @@ public class FakeChessGameRepository implements ChessGameRepository {
         final ChessGame chessGame = chessGameByRoomId.get(roomId);
         final ChessBoard chessBoard = chessGame.getChessBoard();
         final Map<Position, ChessPiece> pieceByPosition = chessBoard.findAllPiece();
+        if (!pieceByPosition.containsKey(from)) {
+            return;
+        }
         final ChessPiece target = pieceByPosition.remove(from);
         pieceByPosition.put(to, target);
         chessGameByRoomId.put(roomId, chessGame);
     }
 
+    @Override
+    public void updateBoard(final int roomId, final Map<Position, ChessPiece> previousPieceByPosition,
+                            final ChessGame chessGame) {
+        chessGameByRoomId.put(roomId, chessGame);
+    }
+
     @Override
     public void add(final int roomId, final ChessGame chessGame) {
         chessGameByRoomId.put(roomId, chessGame);
@@ -1,11 +1,13 @@
 package util;
 
 import chess.domain.room.Room;
+import chess.dto.response.RoomCursorPageDto;
 import chess.dto.response.RoomPageDto;
 import chess.dto.response.RoomResponseDto;
 import chess.exception.NotFoundException;
 import chess.repository.RoomRepository;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -39,6 +41,30 @@ public class FakeRoomRepository implements RoomRepository {
         return RoomPageDto.of(page, lastPage, responseDtos);
     }
 
+    @Override
+    public RoomCursorPageDto getAllAfter(final int afterRoomId, final int size) {
+        final List<RoomResponseDto> responseDtos = storage.entrySet()
+                .stream()
+                .filter(entry -> entry.getKey() > afterRoomId)
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> RoomResponseDto.of(
+                        entry.getKey(),
+                        entry.getValue().getName(),
+                        entry.getValue().getGameStatus().getValue()))
+                .limit(size + 1L)
+                .collect(Collectors.toList());
+        return RoomCursorPageDto.of(responseDtos, size);
+    }
+
+    @Override
+    public Map<Integer, Room> getAllByIds(final List<Integer> roomIds) {
+        final Map<Integer, Room> roomById = new LinkedHashMap<>();
+        roomIds.stream()
+                .filter(storage::containsKey)
+                .forEach(roomId -> roomById.put(roomId, storage.get(roomId)));
+        return roomById;
+    }
+
     @Override
     public int add(final Room room) {
         storage.put(series, room);
@@ -46,7 +72,8 @@ public class FakeRoomRepository implements RoomRepository {
     }
 
     @Override
-    public void update(final int roomId, final Room room) {
+    public void update(final int roomId, final Room room, final int versionIncrement) {
+        room.increaseVersion(versionIncrement);
         storage.put(roomId, room);
     }
 
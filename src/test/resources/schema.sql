@@ -1,17 +1,32 @@
+DROP TABLE IF EXISTS room_archive;
+
+DROP TABLE IF EXISTS move_history;
+
 DROP TABLE IF EXISTS chess_piece;
 
 DROP TABLE IF EXISTS room;
 
+DROP TABLE IF EXISTS id_sequence;
+
 CREATE TABLE room
 (
-    room_id      INT PRIMARY KEY AUTO_INCREMENT,
+    room_id      INT PRIMARY KEY,
     name         VARCHAR(10)  NOT NULL,
     game_status  VARCHAR(10)  NOT NULL,
     current_turn VARCHAR(10)  NOT NULL,
     password     VARCHAR(255) NOT NULL,
-    is_delete    BOOLEAN      NOT NULL DEFAULT FALSE
+    is_delete    BOOLEAN      NOT NULL DEFAULT FALSE,
+    version      INT          NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    active_name  VARCHAR(10) AS (CASE WHEN is_delete THEN NULL ELSE name END)
 );
 
+CREATE UNIQUE INDEX room_active_name ON room (active_name);
+
+CREATE INDEX room_status_updated_at ON room (game_status, updated_at);
+
+CREATE INDEX room_is_delete_room_id ON room (is_delete, room_id);
+
 CREATE TABLE chess_piece
 (
     chess_piece_id INT PRIMARY KEY AUTO_INCREMENT,
@@ -21,3 +36,30 @@ CREATE TABLE chess_piece
     color          VARCHAR(10) NOT NULL,
     FOREIGN KEY (room_id) REFERENCES room (room_id) ON DELETE CASCADE
 );
+
+CREATE TABLE room_archive
+(
+    room_id      INT PRIMARY KEY,
+    name         VARCHAR(10) NOT NULL,
+    game_status  VARCHAR(10) NOT NULL,
+    current_turn VARCHAR(10) NOT NULL,
+    board        BLOB        NOT NULL,
+    archived_at  TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE move_history
+(
+    room_id     INT  NOT NULL,
+    ply_count   INT  NOT NULL,
+    moves       BLOB NOT NULL,
+    PRIMARY KEY (room_id)
+);
+
+CREATE TABLE id_sequence
+(
+    name       VARCHAR(30) NOT NULL,
+    next_value BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO id_sequence (name, next_value) SELECT 'room', COALESCE(MAX(room_id), 0) + 1 FROM room;